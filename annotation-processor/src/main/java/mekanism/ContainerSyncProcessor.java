@@ -0,0 +1,98 @@
+package mekanism;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.StandardLocation;
+import mekanism.builder.SyncAccessorsBuilder;
+
+/**
+ * Gathering (Gradle) annotation processor which generates typed accessors for the fields annotated with ContainerSync, and a ContainerSyncRegistry that registers them,
+ * so that SyncMapper doesn't have to create them via reflection at runtime.
+ */
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedAnnotationTypes(MekAnnotationProcessors.ANNOTATION_CONTAINER_SYNC)
+@SupportedOptions(MekAnnotationProcessors.MODULE_OPTION)
+public class ContainerSyncProcessor extends AbstractProcessor {
+
+    private String mekModule;
+    private final ClassName syncRegistryInterface = ClassName.get(MekAnnotationProcessors.CONTAINER_SYNC_PACKAGE, "IContainerSyncRegistry");
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        mekModule = processingEnv.getOptions().getOrDefault(MekAnnotationProcessors.MODULE_OPTION, "value_not_supplied");
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotatedTypes, RoundEnvironment roundEnvironment) {
+        //map annotated fields by the class that contains them
+        Map<TypeElement, List<VariableElement>> annotatedFieldsByHolder = new LinkedHashMap<>();
+        for (Element element : roundEnvironment.getElementsAnnotatedWithAny(annotatedTypes.toArray(new TypeElement[0]))) {
+            if (element.getKind() == ElementKind.FIELD) {
+                annotatedFieldsByHolder.computeIfAbsent((TypeElement) element.getEnclosingElement(), i -> new ArrayList<>()).add((VariableElement) element);
+            }
+        }
+
+        TypeSpec.Builder registryType = TypeSpec.classBuilder("ContainerSyncRegistry_" + mekModule)
+              .addModifiers(Modifier.PUBLIC)
+              .addSuperinterface(syncRegistryInterface);
+        MethodSpec.Builder registryInit = MethodSpec.methodBuilder("register")
+              .addModifiers(Modifier.PUBLIC)
+              .addAnnotation(Override.class);
+        for (Map.Entry<TypeElement, List<VariableElement>> entry : annotatedFieldsByHolder.entrySet()) {
+            TypeElement holder = entry.getKey();
+            if (!SyncAccessorsBuilder.isAccessible(holder)) {
+                //Can't reference the holder from the generated class, let reflection deal with it at runtime
+                continue;
+            }
+            JavaFile accessorsFile = new SyncAccessorsBuilder(holder, processingEnv).build(entry.getValue());
+            if (accessorsFile != null) {
+                try {
+                    accessorsFile.writeTo(processingEnv.getFiler());
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                registryType.addOriginatingElement(holder);
+                registryInit.addStatement("$T.register()", ClassName.get(accessorsFile.packageName, accessorsFile.typeSpec.name));
+            }
+        }
+
+        if (!registryType.originatingElements.isEmpty()) {
+            registryType.addMethod(registryInit.build());
+            TypeSpec registrySpec = registryType.build();
+            String packageName = "mekanism.generated." + mekModule;
+            try {
+                JavaFile.builder(packageName, registrySpec).build().writeTo(processingEnv.getFiler());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            try (Writer serviceWriter = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + syncRegistryInterface.canonicalName()).openWriter()) {
+                serviceWriter.write(packageName + "." + registrySpec.name);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return false;
+    }
+}
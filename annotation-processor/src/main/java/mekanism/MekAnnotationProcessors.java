@@ -9,6 +9,7 @@ public class MekAnnotationProcessors {
     //Packages
     public static final String COMPUTER_INTEGRATION_PACKAGE = "mekanism.common.integration.computer";
     public static final String ANNOTATION_PACKAGE = COMPUTER_INTEGRATION_PACKAGE + ".annotation";
+    public static final String CONTAINER_SYNC_PACKAGE = "mekanism.common.inventory.container.sync.dynamic";
 
     //annotations
     public static final String COMPUTER_METHOD_FACTORY_ANNOTATION_CLASSNAME = ANNOTATION_PACKAGE + ".MethodFactory";
@@ -16,6 +17,7 @@ public class MekAnnotationProcessors {
     public static final String ANNOTATION_SYNTHETIC_COMPUTER_METHOD = ANNOTATION_PACKAGE + ".SyntheticComputerMethod";
     public static final String ANNOTATION_WRAPPING_COMPUTER_METHOD = ANNOTATION_PACKAGE + ".WrappingComputerMethod";
     public static final String ANNOTATION_WRAPPING_COMPUTER_METHOD_DOC = ANNOTATION_WRAPPING_COMPUTER_METHOD + ".WrappingComputerMethodHelp";
+    public static final String ANNOTATION_CONTAINER_SYNC = CONTAINER_SYNC_PACKAGE + ".ContainerSync";
 
     //class names
     public static final ClassName COMPUTER_METHOD_FACTORY_ANNOTATION = ClassName.bestGuess(COMPUTER_METHOD_FACTORY_ANNOTATION_CLASSNAME);
@@ -0,0 +1,238 @@
+package mekanism.builder;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import mekanism.MekAnnotationProcessors;
+import mekanism.visitors.AnnotationHelper;
+
+/**
+ * Builds a class with typed accessors for the ContainerSync fields of a class, which registers them to GeneratedSyncAccessors. Members that are accessible from the
+ * same package are accessed directly, and private fields are accessed via MethodHandles.
+ * <p>
+ * Fields that we can't generate accessors for (for example because the getter or setter method is private) are skipped, and are instead handled via reflection at
+ * runtime.
+ */
+public class SyncAccessorsBuilder {
+
+    private static final ClassName generatedSyncAccessors = ClassName.get(MekAnnotationProcessors.CONTAINER_SYNC_PACKAGE, "GeneratedSyncAccessors");
+
+    private final Types typeUtils;
+    private final Elements elementUtils;
+    private final Messager messager;
+    private final TypeMirror containerSyncType;
+    private final TypeElement holderType;
+    private final ClassName holderClassName;
+    private final TypeSpec.Builder accessorsTypeSpec;
+    private final CodeBlock.Builder registerCode = CodeBlock.builder();
+
+    public SyncAccessorsBuilder(TypeElement holderType, ProcessingEnvironment env) {
+        this.typeUtils = env.getTypeUtils();
+        this.elementUtils = env.getElementUtils();
+        this.messager = env.getMessager();
+        this.containerSyncType = elementUtils.getTypeElement(MekAnnotationProcessors.ANNOTATION_CONTAINER_SYNC).asType();
+        this.holderType = holderType;
+        this.holderClassName = ClassName.get(holderType);
+        this.accessorsTypeSpec = TypeSpec.classBuilder(String.join("$", holderClassName.simpleNames()) + "$SyncAccessors")
+              .addOriginatingElement(holderType)
+              .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+              .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+    }
+
+    /**
+     * @return {@code true} if the given type can be referenced from a class in the same package.
+     */
+    public static boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE) || (typeElement.getNestingKind() != NestingKind.TOP_LEVEL &&
+                                                                          typeElement.getNestingKind() != NestingKind.MEMBER)) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Builds the accessors class
+     *
+     * @param annotatedFields the fields of the holder that are annotated with ContainerSync
+     *
+     * @return a built JavaFile ready for output, or {@code null} if no accessors could be generated for any of the fields
+     */
+    public JavaFile build(List<VariableElement> annotatedFields) {
+        for (VariableElement field : annotatedFields) {
+            addAccessors(field);
+        }
+        if (registerCode.isEmpty()) {
+            return null;
+        }
+        accessorsTypeSpec.addMethod(MethodSpec.methodBuilder("register")
+              .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+              .addCode(registerCode.build())
+              .build());
+        return JavaFile.builder(holderClassName.packageName(), accessorsTypeSpec.build()).build();
+    }
+
+    private void addAccessors(VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC)) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Static fields can't be synced, skipping", field);
+            return;
+        }
+        AnnotationHelper annotation = new AnnotationHelper(elementUtils, getContainerSyncMirror(field));
+        String getterName = annotation.getStringValue("getter", "");
+        String setterName = annotation.getStringValue("setter", "");
+        TypeMirror fieldType = typeUtils.erasure(field.asType());
+        TypeName fieldTypeName = TypeName.get(fieldType);
+        boolean isPrivate = modifiers.contains(Modifier.PRIVATE);
+        if ((!getterName.isEmpty() && findAccessibleMethod(getterName, 0) == null) || (!setterName.isEmpty() && findAccessibleMethod(setterName, 1) == null)) {
+            //Let reflection deal with it at runtime
+            return;
+        }
+        //values of fields that aren't primitives we have specific accessors for are passed as objects and have to be cast
+        String registerName = switch (fieldType.getKind()) {
+            case INT -> "registerInt";
+            case LONG -> "registerLong";
+            case DOUBLE -> "registerDouble";
+            case BOOLEAN -> "registerBoolean";
+            default -> "registerObject";
+        };
+        boolean isObject = registerName.equals("registerObject");
+
+        CodeBlock getter;
+        if (!getterName.isEmpty()) {
+            getter = CodeBlock.of("holder -> holder.$L()", getterName);
+        } else if (isPrivate) {
+            getter = CodeBlock.of("holder -> $N(holder)", addGetterProxy(fieldName, fieldTypeName));
+        } else {
+            getter = CodeBlock.of("holder -> holder.$L", fieldName);
+        }
+
+        CodeBlock value = isObject ? CodeBlock.of("($T) value", fieldTypeName.box()) : CodeBlock.of("value");
+        CodeBlock setter;
+        if (!setterName.isEmpty()) {
+            setter = CodeBlock.of("(holder, value) -> holder.$L($L)", setterName, value);
+        } else if (modifiers.contains(Modifier.FINAL)) {
+            //Only a few types of fields need to be set, so let the runtime create a setter via reflection for the ones that do
+            setter = CodeBlock.of("null");
+        } else if (isPrivate) {
+            setter = CodeBlock.of("(holder, value) -> $N(holder, $L)", addSetterProxy(fieldName, fieldTypeName), value);
+        } else {
+            setter = CodeBlock.of("(holder, value) -> holder.$L = $L", fieldName, value);
+        }
+
+        if (isObject) {
+            registerCode.addStatement("$T.$L($T.class, $S, $T.class, $L, $L)", generatedSyncAccessors, registerName, holderClassName, fieldName, fieldTypeName, getter, setter);
+        } else {
+            registerCode.addStatement("$T.$L($T.class, $S, $L, $L)", generatedSyncAccessors, registerName, holderClassName, fieldName, getter, setter);
+        }
+    }
+
+    private AnnotationMirror getContainerSyncMirror(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (typeUtils.isSameType(mirror.getAnnotationType(), containerSyncType)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("Couldn't find ContainerSync annotation on " + field.getSimpleName());
+    }
+
+    /**
+     * Finds a method of the holder (or its parents) that can be called from the generated class. As that is in the holder's package, inherited methods need to either be
+     * public, or be declared in the same package.
+     */
+    private ExecutableElement findAccessibleMethod(String name, int paramCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(holderType))) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == paramCount && !method.getModifiers().contains(Modifier.STATIC)) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.PRIVATE) &&
+                                                           elementUtils.getPackageOf(method).equals(elementUtils.getPackageOf(holderType))) {
+                    return method;
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create and add a field and proxy method to get the value of a private field
+     *
+     * @return the built proxy method
+     */
+    private MethodSpec addGetterProxy(String fieldName, TypeName fieldType) {
+        FieldSpec getterHandle = FieldSpec.builder(MethodHandle.class, "fieldGetter$" + fieldName, Modifier.STATIC, Modifier.PRIVATE, Modifier.FINAL)
+              .initializer(CodeBlock.of("$T.getGetterHandle($T.class, $S)", generatedSyncAccessors, holderClassName, fieldName))
+              .build();
+        accessorsTypeSpec.addField(getterHandle);
+        MethodSpec proxy = MethodSpec.methodBuilder("getter$" + fieldName)
+              .addModifiers(Modifier.STATIC, Modifier.PRIVATE)
+              .addParameter(holderClassName, "holder")
+              .returns(fieldType)
+              .beginControlFlow("try")
+              .addStatement("return ($T) $N.invokeExact(holder)", fieldType, getterHandle)
+              //catch a failing method handle (throw as RuntimeException)
+              .nextControlFlow("catch ($T wmte)", WrongMethodTypeException.class)
+              .addStatement("throw new $T($S, wmte)", RuntimeException.class, "Getter not bound correctly")
+              //catch other unknown exception and rethrow as RuntimeException
+              .nextControlFlow("catch ($T t)", Throwable.class)
+              .addStatement("throw new $T(t.getMessage(), t)", RuntimeException.class)
+              .endControlFlow()
+              .build();
+        accessorsTypeSpec.addMethod(proxy);
+        return proxy;
+    }
+
+    /**
+     * Create and add a field and proxy method to set the value of a private field
+     *
+     * @return the built proxy method
+     */
+    private MethodSpec addSetterProxy(String fieldName, TypeName fieldType) {
+        FieldSpec setterHandle = FieldSpec.builder(MethodHandle.class, "fieldSetter$" + fieldName, Modifier.STATIC, Modifier.PRIVATE, Modifier.FINAL)
+              .initializer(CodeBlock.of("$T.getSetterHandle($T.class, $S)", generatedSyncAccessors, holderClassName, fieldName))
+              .build();
+        accessorsTypeSpec.addField(setterHandle);
+        MethodSpec proxy = MethodSpec.methodBuilder("setter$" + fieldName)
+              .addModifiers(Modifier.STATIC, Modifier.PRIVATE)
+              .addParameter(holderClassName, "holder")
+              .addParameter(fieldType, "value")
+              .beginControlFlow("try")
+              .addStatement("$N.invokeExact(holder, value)", setterHandle)
+              //catch a failing method handle (throw as RuntimeException)
+              .nextControlFlow("catch ($T wmte)", WrongMethodTypeException.class)
+              .addStatement("throw new $T($S, wmte)", RuntimeException.class, "Setter not bound correctly")
+              //catch other unknown exception and rethrow as RuntimeException
+              .nextControlFlow("catch ($T t)", Throwable.class)
+              .addStatement("throw new $T(t.getMessage(), t)", RuntimeException.class)
+              .endControlFlow()
+              .build();
+        accessorsTypeSpec.addMethod(proxy);
+        return proxy;
+    }
+}
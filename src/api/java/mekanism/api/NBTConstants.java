@@ -35,6 +35,7 @@ public final class NBTConstants {
     public static final String ACTIVE = "active";
     public static final String CLIENT_NEXT = "clientNext";
     public static final String CLIENT_PREVIOUS = "clientPrevious";
+    public static final String CLIENT_ROUTE = "clientRoute";
     public static final String COMPLEX = "complex";
     public static final String CURRENT_ACCEPTORS = "acceptors";
     public static final String CURRENT_CONNECTIONS = "connections";
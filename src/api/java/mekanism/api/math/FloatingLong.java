@@ -264,6 +264,29 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return isConstant ? this : new FloatingLong(value, decimal, true);
     }
 
+    /**
+     * Sets this {@link FloatingLong} to the value of the given {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns
+     * the result in a new object. This allows a mutable {@link FloatingLong} to be reused as an accumulator without having to create any new objects.
+     *
+     * @param toSet The {@link FloatingLong} to copy the value of.
+     *
+     * @return The {@link FloatingLong} representing the given value.
+     *
+     * @apiNote It is recommended to set this to itself to reduce the chance of accidental calls if calling this on a constant {@link FloatingLong}
+     * <br>
+     * {@code value = value.set(toSet)}
+     * @since 10.6.0
+     */
+    public FloatingLong set(FloatingLong toSet) {
+        if (isConstant) {
+            return toSet.copy();
+        }
+        //Note: We don't need to clamp the values as the other floating long is already properly bounded
+        this.value = toSet.value;
+        this.decimal = toSet.decimal;
+        return this;
+    }
+
     /**
      * Adds the given {@link FloatingLong} to this {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns the result
      * in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
@@ -415,6 +438,16 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
             //To save a tiny bit of memory if this is called on a constant we just return the constant max as the object can't be modified anyway
             return isConstant ? MAX_VALUE : setAndClampValues(-1, MAX_DECIMAL);
         }
+        if (!isConstant) {
+            //If we are mutable we can compute the result in place without creating any intermediary objects
+            // Note: We grab all the components first in case we are being multiplied by ourselves
+            long a = value, c = toMultiply.value;
+            short b = decimal, d = toMultiply.decimal;
+            setToLongAndDecimalMultiplication(a, d);//a * d
+            plusEqual(multiplyLongs(a, c));//a * c
+            addLongAndDecimalMultiplication(this, c, b);//b * c
+            return plusEqual(0, multiplyDecimals(b, d));//b * d
+        }
         //Note: We start by doing (a * d + a * c) rather than (a * c + a * d) in order to optimize out an extra object creation
         FloatingLong temp = multiplyLongAndDecimal(value, toMultiply.decimal);//a * d
         temp = temp.plusEqual(multiplyLongs(value, toMultiply.value));//a * c
@@ -455,6 +488,11 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
             //To save a tiny bit of memory if this is called on a constant we just return the constant max as the object can't be modified anyway
             return isConstant ? MAX_VALUE : setAndClampValues(-1, MAX_DECIMAL);
         }
+        if (!isConstant) {
+            //If we are mutable we can compute the result in place without creating any intermediary objects
+            long wholeProduct = multiplyLongs(value, toMultiply);//a * c
+            return setToLongAndDecimalMultiplication(toMultiply, decimal).plusEqual(wholeProduct);//b * c
+        }
         FloatingLong temp = multiplyLongAndDecimal(toMultiply, decimal);//b * c
         temp = temp.plusEqual(multiplyLongs(value, toMultiply));//a * c
         if (isConstant) {
@@ -1242,6 +1280,22 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return new FloatingLong(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT), false);
     }
 
+    /**
+     * Internal helper to set this {@link FloatingLong} to the result of multiplying a long by a decimal without creating any new objects.
+     *
+     * @apiNote Should only be called on mutable {@link FloatingLong}s.
+     */
+    private FloatingLong setToLongAndDecimalMultiplication(long value, short decimal) {
+        if (value == 0 || decimal == 0) {
+            return setAndClampValues(0, (short) 0);
+        }
+        //This can't overflow!
+        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
+            return setAndClampValues(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, (short) (value % SINGLE_UNIT * decimal));
+        }
+        return setAndClampValues(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT));
+    }
+
     /**
      * Internal helper to multiply a long by a decimal and compound (add) the result to an existing {@link FloatingLong}.
      */
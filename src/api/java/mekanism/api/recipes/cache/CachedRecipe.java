@@ -92,6 +92,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     private FloatingLongConsumer useEnergy = energy -> {
     };
+    /**
+     * Mutable scratch value used for calculating the energy to use when performing multiple operations, so that we don't have to create a new object each tick.
+     */
+    private FloatingLong energyScratch = FloatingLong.create(0);
 
     /**
      * Gets the baseline maximum number of operations that can be performed if everything is working properly. The returned value should be at least one.
@@ -409,7 +413,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             // modify the source value, if we do the check here manually as well, then we can skip creating unnecessary objects
             useEnergy.accept(energy);
         } else {
-            useEnergy.accept(energy.multiply(operations));
+            //Calculate the energy to use in place in our scratch value so that we don't have to create a new object every tick
+            // Note: This is safe to reuse as the energy consumer only extracts the given amount and does not hold onto it
+            energyScratch = energyScratch.set(energy).timesEqual(operations);
+            useEnergy.accept(energyScratch);
         }
     }
 
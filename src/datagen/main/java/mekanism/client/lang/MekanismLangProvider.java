@@ -998,6 +998,10 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_ENERGY, "Energy acceptor demand cache: %1$s networks, %2$s idle acceptors, %3$s hits, %4$s misses (%5$s hit rate).");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDER, "Transporter path cache: %1$s/%2$s paths, %3$s hits, %4$s misses (%5$s hit rate), %6$s invalidated, %7$s evicted.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPES, "Complex recipe match cache: %1$s/%2$s inputs, %3$s hits, %4$s misses (%5$s hit rate), %6$s evicted.");
+        add(MekanismLang.COMMAND_DEBUG_ROUTING, "Transporter batch routing: %1$s inventory networks, %2$s batched routes.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
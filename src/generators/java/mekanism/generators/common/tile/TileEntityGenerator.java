@@ -42,6 +42,11 @@ public abstract class TileEntityGenerator extends TileEntityMekanism {
         updateMaxOutputRaw(maxOutput.get());
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     protected RelativeSide[] getEnergySides() {
         return new RelativeSide[]{RelativeSide.FRONT};
     }
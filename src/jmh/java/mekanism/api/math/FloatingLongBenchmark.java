@@ -0,0 +1,127 @@
+package mekanism.api.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the {@link FloatingLong} arithmetic that is used when transferring energy, comparing the allocating operations against their in place variants.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FloatingLongBenchmark {
+
+    private static final int VALUES = 1_024;
+
+    private final FloatingLong[] values = new FloatingLong[VALUES];
+    private final long[] longs = new long[VALUES];
+    private FloatingLong scratch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        //Use a fixed seed so that runs are comparable
+        Random random = new Random(VALUES);
+        for (int i = 0; i < VALUES; i++) {
+            //Keep the values small enough that multiplying them doesn't just clamp to the max value
+            values[i] = FloatingLong.createConst(random.nextInt(1_000_000), (short) random.nextInt(10_000));
+            longs[i] = 1 + random.nextInt(1_000);
+        }
+        scratch = FloatingLong.create(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public FloatingLong add() {
+        FloatingLong sum = FloatingLong.ZERO;
+        for (FloatingLong value : values) {
+            sum = sum.add(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public FloatingLong plusEqual() {
+        FloatingLong sum = scratch.set(FloatingLong.ZERO);
+        for (FloatingLong value : values) {
+            sum = sum.plusEqual(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void subtract(Blackhole blackhole) {
+        FloatingLong max = FloatingLong.MAX_VALUE;
+        for (FloatingLong value : values) {
+            blackhole.consume(max.subtract(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void multiply(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(values[i].multiply(values[VALUES - 1 - i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void timesEqual(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(scratch.set(values[i]).timesEqual(values[VALUES - 1 - i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void multiplyLong(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(values[i].multiply(longs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void divideLong(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(values[i].divide(longs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void divide(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            FloatingLong divisor = values[VALUES - 1 - i];
+            if (!divisor.isZero()) {
+                blackhole.consume(values[i].divide(divisor));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void compare(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(values[i].compareTo(values[VALUES - 1 - i]));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package mekanism.common.content.qio;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing QIO search queries via {@link SearchQueryParser#parse(String)}, which happens every time the search text in a QIO viewer changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchQueryParserBenchmark {
+
+    @Param({
+          "cobblestone",
+          "@mekanism $ingot",
+          "\"osmium ingot\" | #ores (iron | gold | copper) @minecraft",
+          "(test | test1 | test2 test3 | test4) | @mod #tag $\"quoted tooltip\" | ((a | b) | (c | d))"
+    })
+    public String query;
+
+    @Benchmark
+    public ISearchQuery parse() {
+        return SearchQueryParser.parse(query);
+    }
+}
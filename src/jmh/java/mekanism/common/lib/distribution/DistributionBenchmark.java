@@ -0,0 +1,112 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for distributing an amount between targets via {@link EmitUtils#sendToAcceptors(Target, int, Object)} and for the final
+ * {@link Target#sendRemainingSplit(SplitInfo)} step on its own.
+ *
+ * @implNote The handlers are stateful, so the targets are rebuilt before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistributionBenchmark {
+
+    @State(Scope.Thread)
+    public static class Targets {
+
+        @Param({"1", "10", "100", "1000", "10000"})
+        public int targets;
+
+        /**
+         * How much we try to send relative to the total amount the handlers can accept.
+         */
+        @Param({"0.5", "2"})
+        public double saturation;
+
+        @Param
+        public DistributionMode mode;
+
+        protected IntegerTarget target;
+        protected int toSend;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            //Use a fixed seed so that runs are comparable
+            Random random = new Random(targets);
+            target = new IntegerTarget();
+            long totalCapacity = 0;
+            for (int i = 0; i < targets; i++) {
+                //Mix of handlers that want a specific amount, handlers that only take some of what they are offered, and handlers that take everything
+                int type = random.nextInt(10);
+                IntegerHandler handler;
+                if (type == 0) {
+                    handler = new InfiniteIntegerHandler();
+                    totalCapacity += 1_000;
+                } else if (type == 1) {
+                    handler = new PartialIntegerHandler();
+                    totalCapacity += 500;
+                } else {
+                    int capacity = random.nextInt(1_000);
+                    handler = new SpecificAmountIntegerHandler(capacity);
+                    totalCapacity += capacity;
+                }
+                target.addHandler(handler);
+            }
+            toSend = (int) Math.min(Integer.MAX_VALUE, (long) (totalCapacity * saturation));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PreparedSplit extends Targets {
+
+        protected IntegerSplitInfo splitInfo;
+
+        /**
+         * @implNote JMH runs the setup methods of the super class first, so the targets will have already been created.
+         */
+        @Setup(Level.Invocation)
+        public void prepare() {
+            //Run all the steps of EmitUtils#sendToAcceptors that happen before sendRemainingSplit
+            splitInfo = new IntegerSplitInfo(toSend, target.getHandlerCount());
+            target.sendPossible(toSend, splitInfo);
+            while (splitInfo.amountPerChanged) {
+                splitInfo.amountPerChanged = false;
+                target.shiftNeeded(splitInfo);
+            }
+        }
+    }
+
+    @Benchmark
+    public int sendToAcceptors(Targets state) {
+        return EmitUtils.sendToAcceptors(state.target, state.toSend, state.toSend, state.mode);
+    }
+
+    @Benchmark
+    public int sendRemainingSplit(PreparedSplit state) {
+        state.target.sendRemainingSplit(state.splitInfo);
+        return state.splitInfo.getTotalSent();
+    }
+}
@@ -0,0 +1,92 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for checking if removing a single transmitter from a large square grid of transmitters splits the network, via
+ * {@link NetworkSplitFinder#findSeparated(List, java.util.function.BiConsumer, java.util.function.ToLongFunction)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkSplitFinderBenchmark {
+
+    @Param({"32", "128", "512"})
+    public int size;
+
+    private final LongSet nodes = new LongOpenHashSet();
+
+    @Setup
+    public void setup() {
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                nodes.add(key(x, y));
+            }
+        }
+        //Add a small piece that is only connected to the rest of the grid by a single bridge
+        for (int x = 0; x < 4; x++) {
+            for (int y = size + 1; y < size + 5; y++) {
+                nodes.add(key(x, y));
+            }
+        }
+        nodes.add(key(0, size));
+    }
+
+    private long key(int x, int y) {
+        return (long) x << 32 | (y & 0xFFFFFFFFL);
+    }
+
+    private void forEachNeighbor(long node, Consumer<Long> consumer) {
+        int x = (int) (node >> 32);
+        int y = (int) node;
+        addIfPresent(key(x - 1, y), consumer);
+        addIfPresent(key(x + 1, y), consumer);
+        addIfPresent(key(x, y - 1), consumer);
+        addIfPresent(key(x, y + 1), consumer);
+    }
+
+    private void addIfPresent(long key, Consumer<Long> consumer) {
+        if (nodes.contains(key)) {
+            consumer.accept(key);
+        }
+    }
+
+    private List<List<Long>> toggle(int x, int y) {
+        long removed = key(x, y);
+        nodes.remove(removed);
+        List<Long> seeds = new ArrayList<>(4);
+        forEachNeighbor(removed, seeds::add);
+        List<List<Long>> separated = NetworkSplitFinder.findSeparated(seeds, this::forEachNeighbor, Long::longValue);
+        nodes.add(removed);
+        return separated;
+    }
+
+    @Benchmark
+    public List<List<Long>> removeFromMiddle() {
+        return toggle(size / 2, size / 2);
+    }
+
+    @Benchmark
+    public List<List<Long>> removeBridge() {
+        return toggle(0, size);
+    }
+}
@@ -0,0 +1,274 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.ingredients.IngredientType;
+import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.recipe.lookup.cache.type.BaseInputCache;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for looking up recipes via {@link SingleInputRecipeCache#findFirstRecipe(Level, Object)} and {@link DoubleInputRecipeCache#findFirstRecipe(Level, Object,
+ * Object, boolean)}.
+ *
+ * @implNote As looking up real recipes requires a bootstrapped game and a world, this uses simple integer based inputs and recipes that are provided to the caches
+ * directly. This still exercises the same lookup logic, and the keying costs are comparable to the ones of the item and fluid caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputRecipeCacheBenchmark {
+
+    private static final int LOOKUPS = 1_024;
+
+    @Param({"1", "100", "1000", "5000"})
+    public int recipes;
+
+    /**
+     * Percentage of complex recipes that can't be cached by their input and have to be checked individually.
+     */
+    @Param({"0", "5"})
+    public int complexPercent;
+
+    private SingleCache singleCache;
+    private DoubleCache doubleCache;
+    private final int[] inputsA = new int[LOOKUPS];
+    private final int[] inputsB = new int[LOOKUPS];
+
+    @Setup
+    public void setup() {
+        //Use a fixed seed so that runs are comparable
+        Random random = new Random(recipes);
+        List<RecipeHolder<SingleRecipe>> singleRecipes = new ArrayList<>(recipes);
+        List<RecipeHolder<DoubleRecipe>> doubleRecipes = new ArrayList<>(recipes);
+        //Like the chemical washer or the pigment mixer, have a lot fewer distinct first inputs than second inputs
+        int distinctA = Math.max(1, recipes / 50);
+        for (int i = 0; i < recipes; i++) {
+            boolean complex = random.nextInt(100) < complexPercent;
+            singleRecipes.add(new RecipeHolder<>(new ResourceLocation("mekanism", "single_" + i), new SingleRecipe(new IntIngredient(i + 1, complex))));
+            doubleRecipes.add(new RecipeHolder<>(new ResourceLocation("mekanism", "double_" + i), new DoubleRecipe(new IntIngredient(1 + i % distinctA, false),
+                  new IntIngredient(i + 1, complex))));
+        }
+        singleCache = new SingleCache(singleRecipes);
+        doubleCache = new DoubleCache(doubleRecipes);
+        for (int i = 0; i < LOOKUPS; i++) {
+            //Look up a mix of inputs that do and don't have a matching recipe
+            int index = random.nextInt(recipes + recipes / 10 + 1);
+            inputsA[i] = 1 + index % distinctA;
+            inputsB[i] = index + 1;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void singleInput(Blackhole blackhole) {
+        for (int input : inputsB) {
+            blackhole.consume(singleCache.findFirstRecipe(null, input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void singleInputContains(Blackhole blackhole) {
+        for (int input : inputsB) {
+            blackhole.consume(singleCache.containsInput(null, input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void doubleInputByA(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(doubleCache.findFirstRecipe(null, inputsA[i], inputsB[i], true));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void doubleInputByB(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(doubleCache.findFirstRecipe(null, inputsA[i], inputsB[i], false));
+        }
+    }
+
+    private record IntIngredient(int value, boolean complex) implements InputIngredient<Integer> {
+
+        @Override
+        public boolean test(Integer input) {
+            return input == value;
+        }
+
+        @Override
+        public boolean testType(@NotNull Integer input) {
+            return input == value;
+        }
+
+        @Override
+        public Integer getMatchingInstance(Integer input) {
+            return test(input) ? value : 0;
+        }
+
+        @Override
+        public long getNeededAmount(Integer input) {
+            return test(input) ? 1 : 0;
+        }
+
+        @Override
+        public boolean hasNoMatchingInstances() {
+            return false;
+        }
+
+        @Override
+        public List<Integer> getRepresentations() {
+            return List.of(value);
+        }
+
+        @Override
+        public IngredientType getType() {
+            return IngredientType.SINGLE;
+        }
+    }
+
+    private static class IntInputCache<RECIPE extends MekanismRecipe> extends BaseInputCache<Integer, Integer, IntIngredient, RECIPE> {
+
+        @Override
+        public boolean mapInputs(RECIPE recipe, IntIngredient inputIngredient) {
+            if (inputIngredient.complex()) {
+                return true;
+            }
+            addInputCache(inputIngredient.value(), recipe);
+            return false;
+        }
+
+        @Override
+        protected Integer createKey(Integer input) {
+            return input;
+        }
+
+        @Override
+        public Integer createTypeKey(Integer input, boolean raw) {
+            return input;
+        }
+
+        @Override
+        public boolean isEmpty(Integer input) {
+            return input <= 0;
+        }
+    }
+
+    private abstract static class BenchmarkRecipe extends MekanismRecipe {
+
+        @Override
+        public boolean isIncomplete() {
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public RecipeSerializer<?> getSerializer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public RecipeType<?> getType() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class SingleRecipe extends BenchmarkRecipe implements Predicate<Integer> {
+
+        private final IntIngredient input;
+
+        private SingleRecipe(IntIngredient input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean test(Integer input) {
+            return this.input.test(input);
+        }
+    }
+
+    private static class DoubleRecipe extends BenchmarkRecipe implements BiPredicate<Integer, Integer> {
+
+        private final IntIngredient inputA;
+        private final IntIngredient inputB;
+
+        private DoubleRecipe(IntIngredient inputA, IntIngredient inputB) {
+            this.inputA = inputA;
+            this.inputB = inputB;
+        }
+
+        @Override
+        public boolean test(Integer inputA, Integer inputB) {
+            return this.inputA.test(inputA) && this.inputB.test(inputB);
+        }
+    }
+
+    private static class SingleCache extends SingleInputRecipeCache<Integer, IntIngredient, SingleRecipe, IntInputCache<SingleRecipe>> {
+
+        private final List<RecipeHolder<SingleRecipe>> recipes;
+
+        private SingleCache(List<RecipeHolder<SingleRecipe>> recipes) {
+            super(null, recipe -> recipe.input, new IntInputCache<>());
+            this.recipes = recipes;
+        }
+
+        @Override
+        protected void initCacheIfNeeded(@Nullable Level world) {
+            //Use our recipes directly instead of looking them up from the world's recipe manager
+            if (!initialized) {
+                initialized = true;
+                initCache(recipes);
+            }
+        }
+    }
+
+    private static class DoubleCache extends DoubleInputRecipeCache<Integer, IntIngredient, Integer, IntIngredient, DoubleRecipe, IntInputCache<DoubleRecipe>,
+          IntInputCache<DoubleRecipe>> {
+
+        private final List<RecipeHolder<DoubleRecipe>> recipes;
+
+        private DoubleCache(List<RecipeHolder<DoubleRecipe>> recipes) {
+            super(null, recipe -> recipe.inputA, new IntInputCache<>(), recipe -> recipe.inputB, new IntInputCache<>());
+            this.recipes = recipes;
+        }
+
+        @Override
+        protected void initCacheIfNeeded(@Nullable Level world) {
+            //Use our recipes directly instead of looking them up from the world's recipe manager
+            if (!initialized) {
+                initialized = true;
+                initCache(recipes);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import mekanism.client.render.lib.Outlines;
 import mekanism.client.render.lib.Outlines.Line;
 import mekanism.client.render.lib.effect.BoltRenderer;
 import mekanism.client.render.tileentity.IWireFrameRenderer;
+import mekanism.client.render.transmitter.TransporterItemBatch;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.block.BlockBounding;
@@ -112,6 +113,7 @@ public class RenderTickHandler {
     public static void clearQueued() {
         RadiationOverlay.INSTANCE.resetRadiation();
         transparentRenderers.clear();
+        TransporterItemBatch.clear();
     }
 
     public static void resetCached() {
@@ -150,7 +152,14 @@ public class RenderTickHandler {
 
     @SubscribeEvent
     public void renderWorld(RenderLevelStageEvent event) {
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES && TransporterItemBatch.hasQueued()) {
+            ProfilerFiller profiler = minecraft.getProfiler();
+            profiler.push(ProfilerConstants.TRANSPORTER_ITEMS);
+            MultiBufferSource.BufferSource renderer = minecraft.renderBuffers().bufferSource();
+            TransporterItemBatch.render(event.getPoseStack(), renderer, event.getCamera().getPosition());
+            renderer.endBatch();
+            profiler.pop();
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
             //Only do matrix transforms and mess with buffers if we actually have any renders to render
             if (!transparentRenderers.isEmpty()) {
                 Camera camera = event.getCamera();
@@ -31,15 +31,12 @@ import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.Sheets;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
-import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.texture.TextureAtlas;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.profiling.ProfilerFiller;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -60,7 +57,6 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     @Nullable
     private static TextureAtlasSprite torchOnIcon;
     private final ModelTransporterBox modelBox;
-    private final LazyItemRenderer itemRenderer = new LazyItemRenderer();
 
     public RenderLogisticalTransporter(BlockEntityRendererProvider.Context context) {
         super(context);
@@ -82,23 +78,20 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         if (!MekanismConfig.client.opaqueTransmitters.get()) {
             Collection<TransporterStack> inTransit = transporter.getTransit();
             if (!inTransit.isEmpty()) {
-                matrix.pushPose();
-                itemRenderer.init(tile.getLevel(), pos);
-
+                Level world = tile.getLevel();
+                //Past the detail range only render one of each item and color per transporter, instead of one per position
+                int detailRange = MekanismConfig.client.transporterItemDetailRange.get();
+                boolean lowDetail = pos.getCenter().distanceToSqr(getCamera().getPosition()) > detailRange * detailRange;
                 float partial = partialTick * transporter.tier.getSpeed();
-                Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit);
+                Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit, lowDetail);
                 for (TransporterStack stack : reducedTransit) {
                     float[] stackPos = TransporterUtils.getStackPosition(transporter, stack, partial);
-                    matrix.pushPose();
-                    matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
-                    matrix.scale(0.75F, 0.75F, 0.75F);
-                    itemRenderer.renderAsStack(matrix, renderer, stack.itemStack, light);
-                    matrix.popPose();
+                    //Queue the item to be rendered along with the items in all other transporters, grouped by model
+                    TransporterItemBatch.queue(world, pos.getX() + stackPos[0], pos.getY() + stackPos[1], pos.getZ() + stackPos[2], stack.itemStack, light);
                     if (stack.color != null) {
                         modelBox.render(matrix, renderer, LightTexture.FULL_BRIGHT, overlayLight, stackPos[0], stackPos[1], stackPos[2], stack.color);
                     }
                 }
-                matrix.popPose();
             }
         }
         if (transporter instanceof DiversionTransporter diversionTransporter) {
@@ -132,12 +125,14 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
 
     /**
      * Shrink the in transit list as much as possible. Don't try to render things of the same type that are in the same spot with the same color, ignoring stack size
+     *
+     * @param lowDetail {@code true} to also ignore where the stacks are, and only render one stack of each type and color.
      */
-    private Collection<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit) {
+    private Collection<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit, boolean lowDetail) {
         Collection<TransporterStack> reducedTransit = new ArrayList<>();
         Set<TransportInformation> information = new ObjectOpenHashSet<>();
         for (TransporterStack stack : inTransit) {
-            if (stack != null && !stack.itemStack.isEmpty() && information.add(new TransportInformation(stack))) {
+            if (stack != null && !stack.itemStack.isEmpty() && information.add(new TransportInformation(stack, lowDetail))) {
                 //Ensure the stack is valid AND we did not already have information matching the stack
                 //We use add to check if it already contained the value, so that we only have to query the set once
                 reducedTransit.add(stack);
@@ -170,8 +165,8 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         private final HashedItem item;
         private final int progress;
 
-        private TransportInformation(TransporterStack transporterStack) {
-            this.progress = transporterStack.progress;
+        private TransportInformation(TransporterStack transporterStack, boolean ignoreProgress) {
+            this.progress = ignoreProgress ? 0 : transporterStack.progress;
             this.color = transporterStack.color;
             this.item = HashedItem.create(transporterStack.itemStack);
         }
@@ -195,33 +190,4 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
             return obj instanceof TransportInformation other && progress == other.progress && color == other.color && item.equals(other.item);
         }
     }
-
-    private static class LazyItemRenderer {
-
-        @Nullable
-        private ItemEntity entityItem;
-        @Nullable
-        private EntityRenderer<? super ItemEntity> renderer;
-
-        public void init(Level world, BlockPos pos) {
-            if (entityItem == null) {
-                entityItem = new ItemEntity(EntityType.ITEM, world);
-            } else {
-                entityItem.setLevel(world);
-            }
-            entityItem.setPos(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
-            //Reset entity age to fix issues with mods like ItemPhysic
-            entityItem.age = 0;
-        }
-
-        private void renderAsStack(PoseStack matrix, MultiBufferSource buffer, ItemStack stack, int light) {
-            if (entityItem != null) {
-                if (renderer == null) {
-                    renderer = Minecraft.getInstance().getEntityRenderDispatcher().getRenderer(entityItem);
-                }
-                entityItem.setItem(stack);
-                renderer.render(entityItem, 0, 0, matrix, buffer, light);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package mekanism.client.render.transmitter;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Collects the items in transit in all visible Logistical Transporters for the current frame, so that they can be rendered together grouped by model instead of each
+ * one being rendered as its own item entity.
+ */
+@NothingNullByDefault
+public class TransporterItemBatch {
+
+    private TransporterItemBatch() {
+    }
+
+    private static final Reference2ObjectMap<BakedModel, List<QueuedItem>> queued = new Reference2ObjectOpenHashMap<>();
+    /**
+     * Matches the bob offset of the single item entity that used to be used to render the items. As its age was always reset to zero, items in transporters never
+     * actually bobbed or spun, but they were all raised and rotated by this random amount.
+     */
+    private static final float BOB_OFFSET = (float) (Math.random() * Math.PI * 2);
+    private static final float BOB_HEIGHT = Mth.sin(BOB_OFFSET) * 0.1F + 0.1F;
+
+    /**
+     * Queues an item to be rendered at the given position at the end of rendering block entities this frame.
+     *
+     * @param world World the item is in.
+     * @param x     X coordinate of the center of the item in the world.
+     * @param y     Y coordinate of the center of the item in the world.
+     * @param z     Z coordinate of the center of the item in the world.
+     * @param stack Item to render.
+     * @param light Packed light to render the item with.
+     */
+    public static void queue(Level world, double x, double y, double z, ItemStack stack, int light) {
+        BakedModel model = Minecraft.getInstance().getItemRenderer().getModel(stack, world, null, 0);
+        queued.computeIfAbsent(model, m -> new ArrayList<>()).add(new QueuedItem(x, y, z, stack, light));
+    }
+
+    public static boolean hasQueued() {
+        return !queued.isEmpty();
+    }
+
+    public static void clear() {
+        queued.clear();
+    }
+
+    /**
+     * Renders and clears all the queued items.
+     *
+     * @param matrix   Pose stack that is only rotated by the camera.
+     * @param renderer Buffer source to render into.
+     * @param camera   Position of the camera.
+     */
+    public static void render(PoseStack matrix, MultiBufferSource renderer, Vec3 camera) {
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        for (Reference2ObjectMap.Entry<BakedModel, List<QueuedItem>> entry : queued.reference2ObjectEntrySet()) {
+            BakedModel model = entry.getKey();
+            //Offset the same way the item entity renderer does, so that items render where they used to
+            float yOffset = BOB_HEIGHT + 0.25F * model.getTransforms().getTransform(ItemDisplayContext.GROUND).scale.y();
+            for (QueuedItem item : entry.getValue()) {
+                matrix.pushPose();
+                matrix.translate(item.x() - camera.x, item.y() - camera.y, item.z() - camera.z);
+                matrix.scale(0.75F, 0.75F, 0.75F);
+                matrix.translate(0, yOffset, 0);
+                matrix.mulPose(Axis.YP.rotation(BOB_OFFSET));
+                itemRenderer.render(item.stack(), ItemDisplayContext.GROUND, false, matrix, renderer, item.light(), OverlayTexture.NO_OVERLAY, model);
+                matrix.popPose();
+            }
+        }
+        queued.clear();
+    }
+
+    private record QueuedItem(double x, double y, double z, ItemStack stack, int light) {
+    }
+}
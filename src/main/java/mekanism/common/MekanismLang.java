@@ -163,6 +163,10 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_ENERGY("command", "debug.energy"),
+    COMMAND_DEBUG_PATHFINDER("command", "debug.pathfinder"),
+    COMMAND_DEBUG_RECIPES("command", "debug.recipes"),
+    COMMAND_DEBUG_ROUTING("command", "debug.routing"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -1,6 +1,7 @@
 package mekanism.common;
 
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import org.jetbrains.annotations.NotNull;
@@ -11,5 +12,7 @@ public class ReloadListener implements ResourceManagerReloadListener {
     public void onResourceManagerReload(@NotNull ResourceManager resourceManager) {
         CommonWorldTickHandler.flushTagAndRecipeCaches = true;
         MekanismRecipeType.clearCache();
+        //Wake up any sleeping machines as they may have a recipe now
+        TileEntityMekanism.wakeUpAll();
     }
 }
\ No newline at end of file
@@ -46,6 +46,32 @@ public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
         return new DriveContents(namedItemMap);
     }
 
+    /**
+     * Creates new contents with the given changes applied, keeping the order of the types that were already stored.
+     *
+     * @param changes New amounts of the item types that changed, where an amount of zero means the type is no longer stored.
+     *
+     * @apiNote This does not look up any item types, so it is safe to call off of the main thread.
+     */
+    public DriveContents withChanges(Object2LongMap<UUID> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        Object2LongSortedMap<UUID> updatedItemMap = new Object2LongLinkedOpenHashMap<>(namedItemMap.size() + changes.size());
+        for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
+            long amount = changes.getOrDefault(entry.getKey(), entry.getLongValue());
+            if (amount > 0) {
+                updatedItemMap.put(entry.getKey(), amount);
+            }
+        }
+        for (Object2LongMap.Entry<UUID> entry : changes.object2LongEntrySet()) {
+            if (entry.getLongValue() > 0 && !namedItemMap.containsKey(entry.getKey())) {
+                updatedItemMap.put(entry.getKey(), entry.getLongValue());
+            }
+        }
+        return updatedItemMap.isEmpty() ? EMPTY : new DriveContents(updatedItemMap);
+    }
+
     public void loadItemMap(QIODriveData data) {
         Object2LongMap<HashedItem> itemMap = data.getItemMap();
         for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
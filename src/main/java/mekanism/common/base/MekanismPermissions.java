@@ -41,6 +41,10 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_CHUNK_WATCH = nodeSubCommand(COMMAND_CHUNK, "watch");
 
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
+    public static final CommandPermissionNode COMMAND_DEBUG_ENERGY = nodeSubCommand(COMMAND_DEBUG, "energy");
+    public static final CommandPermissionNode COMMAND_DEBUG_PATHFINDER = nodeSubCommand(COMMAND_DEBUG, "pathfinder");
+    public static final CommandPermissionNode COMMAND_DEBUG_RECIPES = nodeSubCommand(COMMAND_DEBUG, "recipes");
+    public static final CommandPermissionNode COMMAND_DEBUG_ROUTING = nodeSubCommand(COMMAND_DEBUG, "routing");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
@@ -41,4 +41,5 @@ public class ProfilerConstants {
     public static final String ENERGY_CUBE_CORE = ENERGY_CUBE + "." + CORE;
     public static final String SPS_CORE = SPS + "." + CORE;
     public static final String SPS_ORBIT = SPS + ".orbitEffect";
+    public static final String TRANSPORTER_ITEMS = LOGISTICAL_TRANSPORTER + ".items";
 }
\ No newline at end of file
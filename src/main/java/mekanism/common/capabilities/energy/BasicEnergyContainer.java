@@ -24,6 +24,10 @@ public class BasicEnergyContainer implements IEnergyContainer {
     public static final Predicate<@NotNull AutomationType> internalOnly = automationType -> automationType == AutomationType.INTERNAL;
     public static final Predicate<@NotNull AutomationType> manualOnly = automationType -> automationType == AutomationType.MANUAL;
     public static final Predicate<@NotNull AutomationType> notExternal = automationType -> automationType != AutomationType.EXTERNAL;
+    /**
+     * Value returned by {@link #getChangeCount()} when this container can't reliably track changes to how much energy it can accept.
+     */
+    public static final long UNTRACKED = -1;
 
     public static BasicEnergyContainer create(FloatingLong maxEnergy, @Nullable IContentsListener listener) {
         Objects.requireNonNull(maxEnergy, "Max energy cannot be null");
@@ -49,11 +53,16 @@ public class BasicEnergyContainer implements IEnergyContainer {
     }
 
     private FloatingLong stored = FloatingLong.ZERO;
+    /**
+     * Mutable scratch value used for calculating how much energy we can accept without creating a new object every time we are inserted into.
+     */
+    private FloatingLong neededScratch = FloatingLong.create(0);
     protected final Predicate<@NotNull AutomationType> canExtract;
     protected final Predicate<@NotNull AutomationType> canInsert;
     private final FloatingLong maxEnergy;
     @Nullable
     private final IContentsListener listener;
+    private long changeCount;
 
     protected BasicEnergyContainer(FloatingLong maxEnergy, Predicate<@NotNull AutomationType> canExtract, Predicate<@NotNull AutomationType> canInsert,
           @Nullable IContentsListener listener) {
@@ -65,11 +74,29 @@ public class BasicEnergyContainer implements IEnergyContainer {
 
     @Override
     public void onContentsChanged() {
+        changeCount++;
         if (listener != null) {
             listener.onContentsChanged();
         }
     }
 
+    /**
+     * Gets a counter that gets incremented whenever the stored energy or the max energy of this container changes. This allows caching how much energy this container
+     * can accept and detecting when that cached value becomes stale.
+     *
+     * @return The current change count, or {@link #UNTRACKED} if the max energy of this container may change without it being notified.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Marks that the max energy of this container has changed, so that anything that cached how much energy this container can accept knows to check it again.
+     */
+    protected void markCapacityChanged() {
+        changeCount++;
+    }
+
     @Override
     public FloatingLong getEnergy() {
         return stored;
@@ -108,19 +135,24 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getRate(automationType).min(getNeeded());
+        //Note: We calculate how much we need in our scratch value rather than using getNeeded, as that would create a new object each time
+        neededScratch = neededScratch.set(getMaxEnergy()).minusEqual(stored);
+        FloatingLong needed = getRate(automationType).min(neededScratch);
         if (needed.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
         }
         FloatingLong toAdd = amount.min(needed);
+        //Calculate the remainder before marking our contents as changed in case our scratch value gets reused
+        // Note: If we were able to accept all of it, we don't need to create a new object to represent the remainder
+        FloatingLong remainder = toAdd == amount ? FloatingLong.ZERO : amount.subtract(toAdd);
         if (!toAdd.isZero() && action.execute()) {
             //If we want to actually insert the energy, then update the current energy
             // Note: this also will mark that the contents changed
             stored = stored.plusEqual(toAdd);
             onContentsChanged();
         }
-        return amount.subtract(toAdd);
+        return remainder;
     }
 
     @Override
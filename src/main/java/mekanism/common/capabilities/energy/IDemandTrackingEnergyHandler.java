@@ -0,0 +1,17 @@
+package mekanism.common.capabilities.energy;
+
+import mekanism.api.energy.IStrictEnergyHandler;
+
+/**
+ * Energy handler that is able to tell when how much energy it can accept may have changed, so that callers can cache whether it accepts energy instead of having to
+ * simulate an insertion every time.
+ */
+public interface IDemandTrackingEnergyHandler extends IStrictEnergyHandler {
+
+    /**
+     * Gets a version that changes whenever something that affects how much energy this handler can accept changes.
+     *
+     * @return The current demand version, or {@link BasicEnergyContainer#UNTRACKED} if changes to this handler's demand can't be tracked.
+     */
+    long getDemandVersion();
+}
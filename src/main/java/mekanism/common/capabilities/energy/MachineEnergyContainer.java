@@ -67,6 +67,7 @@ public class MachineEnergyContainer<TILE extends TileEntityMekanism> extends Bas
     public void setMaxEnergy(FloatingLong maxEnergy) {
         Objects.requireNonNull(maxEnergy, "Max energy cannot be null");
         this.currentMaxEnergy = maxEnergy;
+        markCapacityChanged();
         //Clamp the energy
         setEnergy(getEnergy());
     }
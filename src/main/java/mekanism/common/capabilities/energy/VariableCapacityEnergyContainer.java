@@ -43,4 +43,14 @@ public class VariableCapacityEnergyContainer extends BasicEnergyContainer {
     public FloatingLong getMaxEnergy() {
         return maxEnergy.get();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote As our max energy is provided by a supplier we can't track when it changes.
+     */
+    @Override
+    public long getChangeCount() {
+        return UNTRACKED;
+    }
 }
\ No newline at end of file
@@ -2,15 +2,18 @@ package mekanism.common.capabilities.proxy;
 
 import mekanism.api.Action;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.ISidedStrictEnergyHandler;
-import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import mekanism.common.capabilities.energy.IDemandTrackingEnergyHandler;
 import mekanism.common.capabilities.holder.IHolder;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
-public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEnergyHandler {
+public class ProxyStrictEnergyHandler extends ProxyHandler implements IDemandTrackingEnergyHandler {
 
     private final ISidedStrictEnergyHandler energyHandler;
 
@@ -65,4 +68,26 @@ public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEne
     public FloatingLong extractEnergy(FloatingLong amount, Action action) {
         return readOnlyExtract() ? FloatingLong.ZERO : energyHandler.extractEnergy(amount, side, action);
     }
-}
\ No newline at end of file
+
+    @Override
+    public long getDemandVersion() {
+        if (readOnlyInsert()) {
+            //Note: Container versions are shifted so that this can't collide with the version of any containers we are able to insert into
+            return 1;
+        } else if (energyHandler instanceof IMekanismStrictEnergyHandler handler) {
+            long version = 0;
+            for (IEnergyContainer container : handler.getEnergyContainers(side)) {
+                if (!(container instanceof BasicEnergyContainer basicContainer)) {
+                    return BasicEnergyContainer.UNTRACKED;
+                }
+                long changeCount = basicContainer.getChangeCount();
+                if (changeCount == BasicEnergyContainer.UNTRACKED) {
+                    return BasicEnergyContainer.UNTRACKED;
+                }
+                version += changeCount << 1;
+            }
+            return version;
+        }
+        return BasicEnergyContainer.UNTRACKED;
+    }
+}
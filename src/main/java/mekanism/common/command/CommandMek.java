@@ -14,7 +14,14 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.InventoryNetwork.RoutingStats;
+import mekanism.common.content.network.distribution.EnergyAcceptorDemandCache;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.recipe.lookup.cache.ComplexRecipeMatchCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.Coordinates;
@@ -55,7 +62,43 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  })
+                  .then(Commands.literal("energy")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_ENERGY)
+                        .executes(ctx -> {
+                            EnergyAcceptorDemandCache.CacheStats stats = EnergyAcceptorDemandCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_ENERGY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.networks(),
+                                  stats.idleAcceptors(), stats.hits(), stats.misses(), TextUtils.getPercent(stats.hitRate())), false);
+                            return stats.idleAcceptors();
+                        })
+                  )
+                  .then(Commands.literal("pathfinder")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_PATHFINDER)
+                        .executes(ctx -> {
+                            CacheStats stats = PathfinderCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_PATHFINDER.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.size(),
+                                  stats.maxSize(), stats.hits(), stats.misses(), TextUtils.getPercent(stats.hitRate()), stats.invalidated(), stats.evicted()), false);
+                            return stats.size();
+                        })
+                  )
+                  .then(Commands.literal("recipes")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_RECIPES)
+                        .executes(ctx -> {
+                            ComplexRecipeMatchCache.CacheStats stats = ComplexRecipeMatchCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPES.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.size(),
+                                  stats.maxSize(), stats.hits(), stats.misses(), TextUtils.getPercent(stats.hitRate()), stats.evicted()), false);
+                            return stats.size();
+                        })
+                  )
+                  .then(Commands.literal("routing")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_ROUTING)
+                        .executes(ctx -> {
+                            RoutingStats stats = InventoryNetwork.getRoutingStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_ROUTING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.networks(),
+                                  stats.batchedRoutes()), false);
+                            return stats.networks();
+                        })
+                  );
         }
     }
 
@@ -34,6 +34,7 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedBooleanValue enableHUD;
     public final CachedIntValue energyColor;
     public final CachedIntValue terRange;
+    public final CachedIntValue transporterItemDetailRange;
 
     public final CachedBooleanValue enableMultiblockFormationParticles;
     public final CachedBooleanValue machineEffects;
@@ -83,6 +84,8 @@ public class ClientConfig extends BaseMekanismConfig {
               .define("energyColor", 0x3CFE9A));
         terRange = CachedIntValue.wrap(this, builder.comment("Range at which Tile Entity Renderer's added by Mekanism can render at, for example the contents of multiblocks. Vanilla defaults the rendering range for TERs to 64 for most blocks, but uses a range of 256 for beacons and end gateways.")
               .defineInRange("terRange", 256, 1, 1_024));
+        transporterItemDetailRange = CachedIntValue.wrap(this, builder.comment("Range in blocks at which every item moving through a Logistical Transporter is rendered. Past this range only one item of each type and color is rendered per transporter.")
+              .defineInRange("transporterItemDetailRange", 32, 0, 1_024));
 
         builder.comment("Particle Config").push(PARTICLE_CATEGORY);
         enableMultiblockFormationParticles = CachedBooleanValue.wrap(this, builder.comment("Set to false to prevent particle spam when loading multiblocks (notification message will display instead).")
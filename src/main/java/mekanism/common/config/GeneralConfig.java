@@ -7,12 +7,14 @@ import mekanism.api.math.FloatingLong;
 import mekanism.common.config.value.CachedBooleanValue;
 import mekanism.common.config.value.CachedConfigValue;
 import mekanism.common.config.value.CachedDoubleValue;
+import mekanism.common.config.value.CachedEnumValue;
 import mekanism.common.config.value.CachedFloatValue;
 import mekanism.common.config.value.CachedFloatingLongValue;
 import mekanism.common.config.value.CachedIntValue;
 import mekanism.common.config.value.CachedLongValue;
 import mekanism.common.config.value.CachedOredictionificatorConfigValue;
 import mekanism.common.content.evaporation.EvaporationMultiblockData;
+import mekanism.common.lib.distribution.DistributionMode;
 import mekanism.common.tier.ChemicalTankTier;
 import mekanism.common.tier.EnergyCubeTier;
 import mekanism.common.tier.FluidTankTier;
@@ -40,6 +42,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String NETWORK_CATEGORY = "transmitter_networks";
+    private static final String QIO_CATEGORY = "qio";
 
     private final ModConfigSpec configSpec;
 
@@ -59,6 +63,19 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue maxSolarNeutronActivatorRate;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
+    public final CachedBooleanValue asyncMultiblockFormation;
+    public final CachedIntValue recipeMatchCacheSize;
+    public final CachedBooleanValue sleepIdleMachines;
+    //Transmitter Networks
+    public final CachedBooleanValue parallelNetworkTicking;
+    public final CachedIntValue parallelNetworkThreads;
+    public final CachedEnumValue<DistributionMode> energyDistributionMode;
+    public final CachedEnumValue<DistributionMode> fluidDistributionMode;
+    public final CachedEnumValue<DistributionMode> chemicalDistributionMode;
+    public final CachedIntValue energyDemandSnapshotTicks;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue transporterBatchRouting;
+    public final CachedBooleanValue transporterRouteSync;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -91,6 +108,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchThreads;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -129,6 +147,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedLongValue spsOutputTankCapacity;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //QIO
+    public final CachedIntValue qioViewerSyncInterval;
 
     GeneralConfig() {
         ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
@@ -168,6 +188,33 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("fluidItemFillRate", 1_024, 1, Integer.MAX_VALUE));
         chemicalItemFillRate = CachedLongValue.wrap(this, builder.comment("Rate at which generic chemical storage items can be filled or emptied.")
               .defineInRange("chemicalItemFillRate", 1_024, 1, Long.MAX_VALUE));
+        asyncMultiblockFormation = CachedBooleanValue.wrap(this, builder.comment("Enable to check the blocks of multiblocks that are trying to form against a copy of the world off of the main server thread. Only the checks that depend on block entities are run on the main thread, and the multiblock is only formed if the blocks didn't change while it was being checked.")
+              .define("asyncMultiblockFormation", false));
+        recipeMatchCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of inputs to remember which recipes with complex ingredients (for example custom or component based ingredients) they match, across all recipe types. Inputs that match no recipes are remembered as well. When full, the least recently used inputs are removed first. Set to 0 to disable caching recipe matches.")
+              .defineInRange("recipeMatchCacheSize", 8_192, 0, 1_000_000));
+        sleepIdleMachines = CachedBooleanValue.wrap(this, builder.comment("Enable to let machines that can't process their recipe stop updating until their contents, configuration, or neighbors change. Currently only affects the basic and advanced electric machines (for example the Enrichment Chamber and the Osmium Compressor).")
+              .define("sleepIdleMachines", true));
+
+        builder.comment("Transmitter Network Settings").push(NETWORK_CATEGORY);
+        parallelNetworkTicking = CachedBooleanValue.wrap(this, builder.comment("Enable to tick independent Universal Cable, Mechanical Pipe, and Pressurized Tube networks in parallel. Networks that are connected to the same block or multiblock are always ticked on the same thread, and networks that are connected to any blocks that aren't known to be safe to interact with off of the main server thread (including all blocks from other mods) are always ticked on the main server thread.")
+              .define("parallelTicking", false));
+        parallelNetworkThreads = CachedIntValue.wrap(this, builder.comment("The maximum number of threads to use for ticking transmitter networks when parallel ticking is enabled.")
+              .defineInRange("parallelThreads", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), 1, 64));
+        energyDistributionMode = CachedEnumValue.wrap(this, builder.comment("Strategy for splitting energy between the acceptors of a Universal Cable network. SORTED does a single pass over the acceptors sorted by how much they need, and scales better for networks with large numbers of acceptors.")
+              .defineEnum("energyDistribution", DistributionMode.ITERATIVE));
+        fluidDistributionMode = CachedEnumValue.wrap(this, builder.comment("Strategy for splitting fluids between the acceptors of a Mechanical Pipe network. SORTED does a single pass over the acceptors sorted by how much they need, and scales better for networks with large numbers of acceptors.")
+              .defineEnum("fluidDistribution", DistributionMode.ITERATIVE));
+        chemicalDistributionMode = CachedEnumValue.wrap(this, builder.comment("Strategy for splitting chemicals between the acceptors of a Pressurized Tube network. SORTED does a single pass over the acceptors sorted by how much they need, and scales better for networks with large numbers of acceptors.")
+              .defineEnum("chemicalDistribution", DistributionMode.ITERATIVE));
+        energyDemandSnapshotTicks = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks Universal Cable networks will skip acceptors that were full or didn't accept energy, as long as their contents don't change. Set to 0 to query every acceptor each tick.")
+              .defineInRange("energyDemandSnapshotTicks", 20, 0, 1_200));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of paths between Logistical Transporters and their destinations to keep cached across all networks. When full, the least recently used paths are removed first. Set to 0 to disable caching paths.")
+              .defineInRange("transporterPathCacheSize", 4_096, 0, 1_000_000));
+        transporterBatchRouting = CachedBooleanValue.wrap(this, builder.comment("Enable to share which destinations can accept an item type between all the stacks of that item that get routed through a Logistical Transporter network in the same tick, instead of checking every destination for each stack.")
+              .define("transporterBatchRouting", true));
+        transporterRouteSync = CachedBooleanValue.wrap(this, builder.comment("Enable to send clients the route of items in Logistical Transporters, so that clients can move the items between transporters themselves instead of the server syncing each move. The server only syncs items when their route changes or they leave the network.")
+              .define("transporterRouteSync", true));
+        builder.pop();
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
@@ -240,6 +287,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("The maximum number of threads shared by all Digital Miners for searching for blocks to mine. Searches are split by chunk section, so a single miner can make use of multiple threads.")
+              .defineInRange("searchThreads", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), 1, 64));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -330,6 +379,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncInterval = CachedIntValue.wrap(this, builder.comment("Number of ticks to collect changes to the items stored in a QIO frequency for before sending them to players viewing the frequency's items. Higher values reduce how many packets get sent for busy frequencies, at the cost of the item viewer updating less often.")
+              .defineInRange("viewerSyncInterval", 5, 1, SharedConstants.TICKS_PER_SECOND));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
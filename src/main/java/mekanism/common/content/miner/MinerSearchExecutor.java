@@ -0,0 +1,62 @@
+package mekanism.common.content.miner;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared executor that the sections of Digital Miner searches are scanned on. This keeps the number of threads used for searching bounded regardless of how many miners
+ * start searching at once, such as when a server restarts.
+ */
+public class MinerSearchExecutor {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    @Nullable
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchExecutor() {
+    }
+
+    /**
+     * Queues the given task to be run on one of the search threads.
+     *
+     * @param task Task to run.
+     */
+    public static synchronized void execute(Runnable task) {
+        int threads = MekanismConfig.general.minerSearchThreads.get();
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Digital Miner Search thread " + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((t, throwable) -> Mekanism.logger.error("Uncaught exception in {}", t.getName(), throwable));
+                return thread;
+            });
+            //Allow the threads to stop when no miners are searching
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != threads) {
+            //The config changed, make sure we set the sizes in an order that keeps the core size from ever being larger than the max size
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        executor.execute(task);
+    }
+
+    /**
+     * Stops any searches that are still queued or running.
+     */
+    public static synchronized void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
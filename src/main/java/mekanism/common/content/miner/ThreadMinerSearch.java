@@ -1,11 +1,14 @@
 package mekanism.common.content.miner;
 
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
@@ -19,6 +22,7 @@ import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -33,82 +37,174 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.EmptyLevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final Map<Block, Boolean> acceptedBlocks = new ConcurrentHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger remainingSections = new AtomicInteger();
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
         this.tile = tile;
-        setDaemon(true);
     }
 
     public void setChunkCache(PathNavigationRegion cache) {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
+    /**
+     * Starts searching, splitting the area the miner covers by chunk section and queuing each section to be scanned on the shared {@link MinerSearchExecutor}.
+     */
+    public void start() {
         state = State.SEARCHING;
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos startPos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
+        int maxX = startPos.getX() + diameter - 1;
+        int maxY = startPos.getY() + tile.getTotalSize() / (diameter * diameter) - 1;
+        int maxZ = startPos.getZ() + diameter - 1;
+        int minSectionX = SectionPos.blockToSectionCoord(startPos.getX());
+        int minSectionY = SectionPos.blockToSectionCoord(startPos.getY());
+        int minSectionZ = SectionPos.blockToSectionCoord(startPos.getZ());
+        int maxSectionX = SectionPos.blockToSectionCoord(maxX);
+        int maxSectionY = SectionPos.blockToSectionCoord(maxY);
+        int maxSectionZ = SectionPos.blockToSectionCoord(maxZ);
+        //Set the number of sections before queuing any of them so that we can't finish early if the first sections are scanned before we queue the rest
+        remainingSections.set((maxSectionX - minSectionX + 1) * (maxSectionY - minSectionY + 1) * (maxSectionZ - minSectionZ + 1));
+        for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+            for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    SectionPos section = SectionPos.of(sectionX, sectionY, sectionZ);
+                    MinerSearchExecutor.execute(() -> {
+                        try {
+                            if (isValid()) {
+                                searchSection(section, startPos, diameter, maxX, maxY, maxZ);
+                            }
+                        } finally {
+                            if (remainingSections.decrementAndGet() == 0 && isValid()) {
+                                finish();
+                            }
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops this search. Any sections that are yet to be scanned will be skipped, and the miner will not be updated with the results.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    private boolean isValid() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return !cancelled && !tile.isRemoved();
+    }
+
+    private void searchSection(SectionPos sectionPos, BlockPos startPos, int diameter, int maxX, int maxY, int maxZ) {
+        if (!(chunkCache.getChunkForCollisions(sectionPos.x(), sectionPos.z()) instanceof ChunkAccess chunk) || chunk instanceof EmptyLevelChunk) {
+            //Skip chunks that weren't loaded when we started searching, as everything in them is treated as air
+            return;
+        }
+        int sectionIndex = chunk.getSectionIndexFromSectionY(sectionPos.y());
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+            return;
+        }
+        LevelChunkSection section = chunk.getSection(sectionIndex);
+        if (section.hasOnlyAir() || !section.maybeHas(this::mayBeAccepted)) {
+            //Skip the entire section if it is empty, or if none of the states in its palette are ones we would mine. This lets us avoid looking at every position
+            // in most sections, as the palette of a section is generally much smaller than the number of positions in it
+            return;
+        }
         BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
+        IntList sectionOres = new IntArrayList();
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        int minX = Math.max(startPos.getX(), sectionPos.minBlockX());
+        int minY = Math.max(startPos.getY(), sectionPos.minBlockY());
+        int minZ = Math.max(startPos.getZ(), sectionPos.minBlockZ());
+        int sectionMaxX = Math.min(maxX, sectionPos.maxBlockX());
+        int sectionMaxY = Math.min(maxY, sectionPos.maxBlockY());
+        int sectionMaxZ = Math.min(maxZ, sectionPos.maxBlockZ());
+        for (int y = minY; y <= sectionMaxY; y++) {
+            if (!isValid()) {
                 return;
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
-            }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
-                } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+            for (int z = minZ; z <= sectionMaxZ; z++) {
+                for (int x = minX; x <= sectionMaxX; x++) {
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (!mayBeAccepted(state) || shouldSkipState(state)) {
+                        //Skip air, blacklisted blocks, liquids, blocks that don't match our filters, and special cased block states
+                        continue;
+                    }
+                    testPos.set(x, y, z);
+                    if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                        //Skip the miner itself, and also skip any bounding blocks
+                        continue;
+                    }
+                    if (state.getDestroySpeed(chunkCache, testPos) >= 0) {
+                        //Only add blocks that are breakable
+                        sectionOres.add(x - startPos.getX() + diameter * (z - startPos.getZ() + diameter * (y - startPos.getY())));
+                    }
                 }
-                acceptedItems.put(info, accepted);
             }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+        }
+        if (!sectionOres.isEmpty()) {
+            //Merge the blocks we found in this section into the results for the chunk
+            synchronized (oresToMine) {
+                BitSet chunkOres = oresToMine.computeIfAbsent(ChunkPos.asLong(sectionPos.x(), sectionPos.z()), k -> new BitSet());
+                for (int i = 0, size = sectionOres.size(); i < size; i++) {
+                    chunkOres.set(sectionOres.getInt(i));
+                }
             }
+            found.addAndGet(sectionOres.size());
         }
+    }
+
+    /**
+     * Checks if a given state could be mined by the miner, without taking into account anything that depends on where the state is.
+     *
+     * @implNote Whether a block matches our filters is cached per block, so this is cheap to check for states we have seen before.
+     */
+    private boolean mayBeAccepted(BlockState state) {
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
+            return false;
+        }
+        Block block = state.getBlock();
+        return !MekanismUtils.isLiquidBlock(block) && acceptedBlocks.computeIfAbsent(block, b -> isAccepted(b, state));
+    }
+
+    private boolean isAccepted(Block block, BlockState state) {
+        if (tile.isReplaceTarget(block.asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            return false;
+        }
+        //Ensure that the inverse mode is the opposite of the filter match
+        return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+    }
 
+    private void finish() {
         state = State.FINISHED;
         chunkCache = null;
         if (tile.searcher == this) {
             //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+            tile.updateFromSearch(oresToMine, found.get());
         }
     }
 
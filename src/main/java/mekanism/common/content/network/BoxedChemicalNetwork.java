@@ -30,16 +30,17 @@ import mekanism.common.capabilities.chemical.dynamic.IInfusionTracker;
 import mekanism.common.capabilities.chemical.dynamic.IPigmentTracker;
 import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTankBuilder;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -228,6 +229,22 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         saveTarget.saveShare();
     }
 
+    @Override
+    protected void transmittersRemoved(@Nullable BoxedPressurizedTube triggerTransmitter) {
+        if (triggerTransmitter != null) {
+            Current current = chemicalTank.getCurrent();
+            if (current != Current.EMPTY) {
+                //Disperse anything that no longer fits in the network before the buffer gets clamped
+                IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
+                long excess = tank.getStored() - getCapacity();
+                if (excess > 0) {
+                    disperse(triggerTransmitter, ChemicalUtil.copyWithAmount(tank.getStack(), excess));
+                }
+            }
+        }
+        super.transmittersRemoved(triggerTransmitter);
+    }
+
     @Override
     protected void onLastTransmitterRemoved(@NotNull BoxedPressurizedTube triggerTransmitter) {
         Current current = chemicalTank.getCurrent();
@@ -255,14 +272,19 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack, MekanismConfig.general.chemicalDistributionMode.get());
+    }
+
+    @Override
+    protected boolean canTickInParallel() {
+        return true;
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            NeoForge.EVENT_BUS.post(new ChemicalTransferEvent(this, lastChemical));
+            TransmitterNetworkRegistry.postNetworkEvent(new ChemicalTransferEvent(this, lastChemical));
             needsUpdate = false;
         }
         Current current = chemicalTank.getCurrent();
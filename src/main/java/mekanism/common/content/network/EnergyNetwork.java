@@ -14,15 +14,17 @@ import mekanism.api.math.FloatingLong;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.network.distribution.EnergyAcceptorDemandCache;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,6 +32,7 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
+    private final EnergyAcceptorDemandCache demandCache = new EnergyAcceptorDemandCache(MekanismConfig.general.energyDemandSnapshotTicks);
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
 
@@ -99,6 +102,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         capacity = floatingLongCapacity.longValue();
     }
 
+    @Override
+    protected synchronized void removeCapacity(UniversalCable transmitter) {
+        floatingLongCapacity = floatingLongCapacity.minusEqual(transmitter.getCapacityAsFloatingLong());
+        capacity = floatingLongCapacity.longValue();
+    }
+
     @Override
     public synchronized void updateCapacity() {
         FloatingLong sum = FloatingLong.ZERO;
@@ -129,14 +138,19 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     private FloatingLong tickEmit(FloatingLong energyToSend) {
         Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
         EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
+        demandCache.tick();
         for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
             for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                if (demandCache.canAccept(acceptor, energyToSend)) {
                     target.addHandler(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        return EmitUtils.sendToAcceptors(target, energyToSend.copy(), MekanismConfig.general.energyDistributionMode.get());
+    }
+
+    public EnergyAcceptorDemandCache getDemandCache() {
+        return demandCache;
     }
 
     @Override
@@ -144,11 +158,16 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         return "[EnergyNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
     }
 
+    @Override
+    protected boolean canTickInParallel() {
+        return true;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            NeoForge.EVENT_BUS.post(new EnergyTransferEvent(this));
+            TransmitterNetworkRegistry.postNetworkEvent(new EnergyTransferEvent(this));
             needsUpdate = false;
         }
         if (energyContainer.isEmpty()) {
@@ -1,6 +1,7 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -12,26 +13,39 @@ import java.util.UUID;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.TransitRequest;
+import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.tile.interfaces.ISideConfiguration;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Destinations that were able to accept each type of item the last time it was routed through this network, shared between all the stacks routed in the same tick.
+     */
+    private final Map<RoutingKey, RoutingCandidates> routingCandidates = new Object2ObjectOpenHashMap<>();
+    private long routingTick = -1;
+    private long batchedRoutes;
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -44,63 +58,201 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
         List<AcceptorData> toReturn = new ArrayList<>();
+        RoutingKey routingKey = getRoutingKey(request, stack);
+        if (routingKey != null) {
+            RoutingCandidates candidates = routingCandidates.get(routingKey);
+            if (candidates != null) {
+                //Another stack of the same type has already been routed through this network this tick, only check the destinations that were able to accept it
+                // or that were full. Destinations that were full may have had items removed since then, so we check how much room they have now, and just skip
+                // the destinations that don't accept this type of item at all
+                batchedRoutes++;
+                for (BlockPos pos : candidates.positions()) {
+                    addAcceptorData(toReturn, request, stack, pos, acceptorCache.getCachedAcceptors(pos), chunkMap, additionalFlowingStacks);
+                }
+                BlockPos skipped = candidates.skipped();
+                if (skipped != null) {
+                    //The home of the stack the candidates were found for wasn't checked, so we need to check it unless it is also our home
+                    addAcceptorData(toReturn, request, stack, skipped, acceptorCache.getCachedAcceptors(skipped), chunkMap, additionalFlowingStacks);
+                }
+                return toReturn;
+            }
+        }
+        List<BlockPos> candidatePositions = new ArrayList<>();
         for (Map.Entry<BlockPos, Map<Direction, IItemHandler>> entry : acceptorCache.getAcceptorEntrySet()) {
             BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
-                BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
-                Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
-                GlobalPos position = GlobalPos.of(getWorld().dimension(), pos);
-                for (Map.Entry<Direction, IItemHandler> acceptorEntry : entry.getValue().entrySet()) {
-                    IItemHandler handler = acceptorEntry.getValue();
-                    Direction side = acceptorEntry.getKey();
-                    //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
-                    // actually need to even query the TE
-                    if (acceptor instanceof ISideConfiguration config) {
-                        //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
-                        if (config.getEjector().hasStrictInput()) {
-                            EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
-                            if (configColor != null && configColor != stack.color) {
-                                continue;
-                            }
-                        }
-                    }
-                    TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks);
-                    if (!response.isEmpty()) {
-                        Direction opposite = side.getOpposite();
-                        //If the response isn't empty, check if we already have acceptor data for
-                        // a matching response at the destination
-                        AcceptorData data = dataMap.get(response);
-                        if (data == null) {
-                            //If we don't, add a new acceptor data for the response and position with side
-                            data = new AcceptorData(pos, response, opposite);
-                            dataMap.put(response, data);
-                            toReturn.add(data);
-                            //Note: In theory this shouldn't cause any issues if some exposed slots overlap but are for
-                            // different acceptor data/sides as our predicted insert takes into account all en-route
-                            // items to the destination, and only checks about the side if none are actually able to be
-                            // inserted in the first place
-                        } else {
-                            //If we do, add our side as one of the sides it can accept things from for that response
-                            // This equates to the destination being the same
-                            data.sides.add(opposite);
-                        }
+            Map<Direction, IItemHandler> acceptors = entry.getValue();
+            if (addAcceptorData(toReturn, request, stack, pos, acceptors, chunkMap, additionalFlowingStacks)) {
+                candidatePositions.add(pos);
+            } else if (routingKey != null && !pos.equals(stack.homeLocation) && acceptsType(acceptors, routingKey.type().getInternalStack())) {
+                //The destination is full, but it may have room again by the time the next stack of this type is routed
+                candidatePositions.add(pos);
+            }
+        }
+        if (routingKey != null && additionalFlowingStacks.isEmpty()) {
+            //Note: We only share the result when there are no additional flowing stacks, as otherwise destinations that could accept the item may have been skipped
+            routingCandidates.put(routingKey, new RoutingCandidates(candidatePositions, stack.homeLocation));
+        }
+        return toReturn;
+    }
+
+    /**
+     * Calculates what the acceptors at the given position are able to accept and adds it to the list of acceptor data.
+     *
+     * @return {@code true} if any of the acceptors at the position can accept part of the request.
+     */
+    private boolean addAcceptorData(List<AcceptorData> toReturn, TransitRequest request, TransporterStack stack, BlockPos pos, Map<Direction, IItemHandler> acceptors,
+          Long2ObjectMap<ChunkAccess> chunkMap, Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+        if (acceptors.isEmpty() || pos.equals(stack.homeLocation)) {
+            return false;
+        }
+        int previousSize = toReturn.size();
+        BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
+        Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
+        GlobalPos position = GlobalPos.of(getWorld().dimension(), pos);
+        for (Map.Entry<Direction, IItemHandler> acceptorEntry : acceptors.entrySet()) {
+            IItemHandler handler = acceptorEntry.getValue();
+            Direction side = acceptorEntry.getKey();
+            //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
+            // actually need to even query the TE
+            if (acceptor instanceof ISideConfiguration config) {
+                //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
+                if (config.getEjector().hasStrictInput()) {
+                    EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
+                    if (configColor != null && configColor != stack.color) {
+                        continue;
                     }
                 }
             }
+            TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks);
+            if (!response.isEmpty()) {
+                Direction opposite = side.getOpposite();
+                //If the response isn't empty, check if we already have acceptor data for
+                // a matching response at the destination
+                AcceptorData data = dataMap.get(response);
+                if (data == null) {
+                    //If we don't, add a new acceptor data for the response and position with side
+                    data = new AcceptorData(pos, response, opposite);
+                    dataMap.put(response, data);
+                    toReturn.add(data);
+                    //Note: In theory this shouldn't cause any issues if some exposed slots overlap but are for
+                    // different acceptor data/sides as our predicted insert takes into account all en-route
+                    // items to the destination, and only checks about the side if none are actually able to be
+                    // inserted in the first place
+                } else {
+                    //If we do, add our side as one of the sides it can accept things from for that response
+                    // This equates to the destination being the same
+                    data.sides.add(opposite);
+                }
+            }
         }
-        return toReturn;
+        return toReturn.size() > previousSize;
+    }
+
+    /**
+     * @return {@code true} if any of the given acceptors has a slot that the given item is valid for.
+     */
+    private static boolean acceptsType(Map<Direction, IItemHandler> acceptors, ItemStack type) {
+        for (IItemHandler handler : acceptors.values()) {
+            for (int slot = 0, slots = handler.getSlots(); slot < slots; slot++) {
+                if (handler.isItemValid(slot, type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The key to share the destinations that were able to accept the given request with other requests that are routed this tick, or {@code null} if the
+     * result can't be shared.
+     */
+    @Nullable
+    private RoutingKey getRoutingKey(TransitRequest request, TransporterStack stack) {
+        if (!MekanismConfig.general.transporterBatchRouting.get()) {
+            return null;
+        }
+        HashedItem type = null;
+        for (ItemData data : request) {
+            if (type != null) {
+                //Only share results for requests of a single item type, as for requests with multiple types we only find out about the first type each
+                // destination can accept
+                return null;
+            }
+            type = data.getItemType();
+        }
+        if (type == null) {
+            return null;
+        }
+        long gameTime = getWorld().getGameTime();
+        if (routingTick != gameTime) {
+            routingTick = gameTime;
+            routingCandidates.clear();
+        }
+        return new RoutingKey(type, stack.color);
+    }
+
+    /**
+     * @return The number of times the destinations an item could be routed to were shared with another stack routed in the same tick.
+     */
+    public long getBatchedRoutes() {
+        return batchedRoutes;
+    }
+
+    /**
+     * @return A snapshot of how often all inventory networks shared the destinations an item could be routed to since each network was created.
+     */
+    public static RoutingStats getRoutingStats() {
+        int networks = 0;
+        long batchedRoutes = 0;
+        for (DynamicNetwork<?, ?, ?> network : TransmitterNetworkRegistry.getInstance().getNetworks()) {
+            if (network instanceof InventoryNetwork inventoryNetwork) {
+                networks++;
+                batchedRoutes += inventoryNetwork.getBatchedRoutes();
+            }
+        }
+        return new RoutingStats(networks, batchedRoutes);
+    }
+
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        //The transporters we are adopting may provide shorter paths between our existing transporters
+        PathfinderCache.onChanged(this, net);
+        routingCandidates.clear();
+        return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
     @Override
     public void commit() {
-        super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        routingCandidates.clear();
+        if (transmittersToAdd.isEmpty()) {
+            //If only acceptors changed, we only need to remove the cached paths that lead to those acceptors
+            for (BlockPos changedAcceptor : acceptorCache.getChangedAcceptorPositions()) {
+                PathfinderCache.onChanged(this, changedAcceptor);
+            }
+            super.commit();
+        } else {
+            super.commit();
+            // update the cache when the network has been changed (called when transmitters are added), as new transmitters may provide shorter paths
+            PathfinderCache.onChanged(this);
+        }
+    }
+
+    @Override
+    protected void transmittersRemoved(@Nullable LogisticalTransporterBase triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        routingCandidates.clear();
+        if (triggerTransmitter == null) {
+            PathfinderCache.onChanged(this);
+        } else {
+            //Only paths that went through the removed transporter are no longer valid
+            PathfinderCache.onChanged(this, triggerTransmitter.getBlockPos());
+        }
     }
 
     @Override
     public void deregister() {
         super.deregister();
+        routingCandidates.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
@@ -116,6 +268,19 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmittersSize(), getAcceptorCount());
     }
 
+    private record RoutingKey(HashedItem type, @Nullable EnumColor color) {
+    }
+
+    /**
+     * @param positions Positions of the destinations that were able to accept the item, or that accept the item but were full.
+     * @param skipped   Position that wasn't checked as it was the home of the stack being routed.
+     */
+    private record RoutingCandidates(List<BlockPos> positions, @Nullable BlockPos skipped) {
+    }
+
+    public record RoutingStats(int networks, long batchedRoutes) {
+    }
+
     public static class AcceptorData {
 
         private final BlockPos location;
@@ -0,0 +1,144 @@
+package mekanism.common.content.network.distribution;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.function.IntSupplier;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import mekanism.common.capabilities.energy.IDemandTrackingEnergyHandler;
+import mekanism.common.content.network.EnergyNetwork;
+import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+
+/**
+ * Keeps track of which acceptors of an energy network didn't accept any energy the last time we tried to send to them, so that idle or full acceptors can be skipped
+ * without querying them until their contents change.
+ *
+ * @implNote Snapshots also expire after a configurable number of ticks, to make sure that changes to things like the side configuration of an acceptor, which don't cause
+ * its contents to change, are picked up eventually.
+ */
+public class EnergyAcceptorDemandCache {
+
+    private final Reference2ObjectMap<IStrictEnergyHandler, DemandSnapshot> idleAcceptors = new Reference2ObjectOpenHashMap<>();
+    private final IntSupplier maxSnapshotAge;
+    private long ticks;
+    private long hits;
+    private long misses;
+
+    public EnergyAcceptorDemandCache(IntSupplier maxSnapshotAge) {
+        this.maxSnapshotAge = maxSnapshotAge;
+    }
+
+    /**
+     * Advances the age of the cached snapshots, and removes any that have expired. This should be called once before each emission.
+     */
+    public void tick() {
+        ticks++;
+        int maxAge = maxSnapshotAge.getAsInt();
+        if (maxAge <= 0) {
+            idleAcceptors.clear();
+        } else if (ticks % maxAge == 0 && !idleAcceptors.isEmpty()) {
+            //Periodically clear out expired snapshots so that we don't hold onto acceptors that are no longer connected to the network
+            idleAcceptors.values().removeIf(snapshot -> snapshot.expiresAt <= ticks);
+        }
+    }
+
+    /**
+     * Checks if the given acceptor is able to accept any of the given energy, using a cached snapshot if the acceptor hasn't changed since it was last found to be idle.
+     *
+     * @param acceptor     Acceptor to check.
+     * @param energyToSend Energy that is being sent.
+     *
+     * @return {@code true} if the acceptor may be able to accept some of the energy.
+     */
+    public boolean canAccept(IStrictEnergyHandler acceptor, FloatingLong energyToSend) {
+        long version = BasicEnergyContainer.UNTRACKED;
+        int maxAge = maxSnapshotAge.getAsInt();
+        if (maxAge > 0 && acceptor instanceof IDemandTrackingEnergyHandler trackingAcceptor) {
+            version = trackingAcceptor.getDemandVersion();
+            if (version != BasicEnergyContainer.UNTRACKED) {
+                DemandSnapshot snapshot = idleAcceptors.get(acceptor);
+                if (snapshot != null && snapshot.version == version && snapshot.expiresAt > ticks) {
+                    hits++;
+                    return false;
+                }
+            }
+        }
+        misses++;
+        if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+            idleAcceptors.remove(acceptor);
+            return true;
+        } else if (version != BasicEnergyContainer.UNTRACKED) {
+            DemandSnapshot snapshot = idleAcceptors.get(acceptor);
+            if (snapshot == null) {
+                idleAcceptors.put(acceptor, new DemandSnapshot(version, ticks + maxAge));
+            } else {
+                snapshot.version = version;
+                snapshot.expiresAt = ticks + maxAge;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of acceptors that currently have a snapshot of them being idle.
+     */
+    public int getIdleAcceptors() {
+        return idleAcceptors.size();
+    }
+
+    /**
+     * @return The number of times an acceptor was skipped without querying it.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of times an acceptor had to be queried to see if it could accept energy.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return A snapshot of how effective the caches of all energy networks have been since each network was created.
+     */
+    public static CacheStats getStats() {
+        int networks = 0;
+        int idleAcceptors = 0;
+        long hits = 0;
+        long misses = 0;
+        for (DynamicNetwork<?, ?, ?> network : TransmitterNetworkRegistry.getInstance().getNetworks()) {
+            if (network instanceof EnergyNetwork energyNetwork) {
+                EnergyAcceptorDemandCache cache = energyNetwork.getDemandCache();
+                networks++;
+                idleAcceptors += cache.getIdleAcceptors();
+                hits += cache.getHits();
+                misses += cache.getMisses();
+            }
+        }
+        return new CacheStats(networks, idleAcceptors, hits, misses);
+    }
+
+    public record CacheStats(int networks, int idleAcceptors, long hits, long misses) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+
+    private static class DemandSnapshot {
+
+        private long version;
+        private long expiresAt;
+
+        private DemandSnapshot(long version, long expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -9,6 +9,13 @@ import mekanism.common.lib.distribution.Target;
 
 public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingLong, FloatingLong> {
 
+    /**
+     * Mutable scratch value used to calculate how much was accepted without creating a new object for every handler we send to.
+     *
+     * @implNote This is safe to reuse as {@link SplitInfo#send(Number)} does not hold onto the value it is given.
+     */
+    private FloatingLong accepted = FloatingLong.create(0);
+
     public EnergyAcceptorTarget() {
     }
 
@@ -22,7 +29,9 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
 
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        FloatingLong remainder = handler.insertEnergy(amount, Action.EXECUTE);
+        accepted = accepted.set(amount).minusEqual(remainder);
+        splitInfo.send(accepted);
     }
 
     @Override
@@ -11,6 +11,7 @@ import java.util.UUID;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
@@ -26,10 +27,12 @@ import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.transmitter.PacketTransporterBatch;
 import mekanism.common.network.to_client.transmitter.PacketTransporterSync;
 import mekanism.common.tier.TransporterTier;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -44,8 +47,17 @@ import org.jetbrains.annotations.Nullable;
 
 public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * How long the client remembers which transporter it moved a stack into, so that if the server corrects the stack in the transporter it was in, the copy the client
+     * moved ahead can be removed.
+     */
+    private static final int FORWARDED_TIMEOUT = 2 * SharedConstants.TICKS_PER_SECOND;
     protected final Int2ObjectMap<TransporterStack> transit = new Int2ObjectOpenHashMap<>();
     protected final Int2ObjectMap<TransporterStack> needsSync = new Int2ObjectOpenHashMap<>();
+    /**
+     * Client side only: Stacks that the client moved from this transporter into the next one.
+     */
+    private final Int2ObjectMap<ForwardedStack> forwarded = new Int2ObjectOpenHashMap<>();
     public final TransporterTier tier;
     protected int nextId = 0;
     protected int delay = 0;
@@ -100,8 +112,54 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
     }
 
     public void onUpdateClient() {
-        for (TransporterStack stack : transit.values()) {
-            stack.progress = Math.min(100, stack.progress + tier.getSpeed());
+        if (!forwarded.isEmpty()) {
+            long time = getLevel().getGameTime();
+            forwarded.values().removeIf(forwardedStack -> time - forwardedStack.time() > FORWARDED_TIMEOUT);
+        }
+        if (!transit.isEmpty()) {
+            BlockPos pos = getBlockPos();
+            IntSet removed = null;
+            for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
+                int stackId = entry.getIntKey();
+                TransporterStack stack = entry.getValue();
+                int progress = stack.progress + tier.getSpeed();
+                if (progress >= 100) {
+                    if (stack.canClientMove()) {
+                        //The server will move the stack the same way without telling us about it, so move it into the next transporter ourselves.
+                        // If the server ends up doing something different, it will sync the stack to this transporter, and we remove the moved stack then
+                        BlockPos next = stack.getNext(this);
+                        if (next != null && WorldUtils.getTileEntity(getLevel(), next) instanceof TileEntityLogisticalTransporterBase tile) {
+                            LogisticalTransporterBase nextTransporter = tile.getTransmitter();
+                            if (!nextTransporter.transit.containsKey(stackId)) {
+                                stack.progress = progress;
+                                stack.clientMoveToNext(pos);
+                                nextTransporter.transit.put(stackId, stack);
+                                forwarded.put(stackId, new ForwardedStack(next, getLevel().getGameTime()));
+                                if (removed == null) {
+                                    removed = new IntOpenHashSet();
+                                }
+                                removed.add(stackId);
+                                continue;
+                            }
+                        }
+                    }
+                    stack.progress = 100;
+                    if (stack.clientMarkStuck()) {
+                        //The server should have told us about the stack by now, so it must no longer be in this transporter
+                        if (removed == null) {
+                            removed = new IntOpenHashSet();
+                        }
+                        removed.add(stackId);
+                    }
+                } else {
+                    stack.progress = progress;
+                }
+            }
+            if (removed != null) {
+                for (OfInt iterator = removed.iterator(); iterator.hasNext(); ) {
+                    transit.remove(iterator.nextInt());
+                }
+            }
         }
     }
 
@@ -144,6 +202,9 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                 InventoryNetwork network = getTransmitterNetwork();
                 //Update stack positions
                 IntSet deletes = new IntOpenHashSet();
+                //Stacks that moved into the next transporter without needing to tell the client
+                IntSet moved = null;
+                boolean routeSync = MekanismConfig.general.transporterRouteSync.get();
                 //Note: Our calls to getTileEntity are not done with a chunkMap as we don't tend to have that many tiles we
                 // are checking at once from here and given this gets called each tick, it would cause unnecessary garbage
                 // collection to occur actually causing the tick time to go up slightly.
@@ -173,8 +234,16 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                                     //If this is not the final transporter try transferring it to the next one
                                     LogisticalTransporterBase transmitter = network.getTransmitter(next);
                                     if (stack.canInsertToTransporter(transmitter, stack.getSide(this), this)) {
-                                        transmitter.entityEntering(stack, stack.progress % 100);
-                                        deletes.add(stackId);
+                                        //If clients were told the current route of the stack, they will move it the same way themselves
+                                        boolean simulated = routeSync && !needsSync.containsKey(stackId) && stack.canClientsMoveFrom(pos);
+                                        if (transmitter.entityEntering(pos, stackId, stack, stack.progress % 100, simulated)) {
+                                            if (moved == null) {
+                                                moved = new IntOpenHashSet();
+                                            }
+                                            moved.add(stackId);
+                                        } else {
+                                            deletes.add(stackId);
+                                        }
                                         continue;
                                     }
                                     prevSet = next;
@@ -266,6 +335,13 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                     // Finally, mark chunk for save
                     getTransmitterTile().markForSave();
                 }
+                if (moved != null) {
+                    OfInt ofInt = moved.iterator();
+                    while (ofInt.hasNext()) {
+                        deleteStack(ofInt.nextInt());
+                    }
+                    getTransmitterTile().markForSave();
+                }
             }
         }
     }
@@ -311,6 +387,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
     public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
         super.handleUpdateTag(tag, provider);
         transit.clear();
+        forwarded.clear();
         if (tag.contains(NBTConstants.ITEMS, Tag.TAG_LIST)) {
             ListTag tagList = tag.getList(NBTConstants.ITEMS, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
@@ -331,7 +408,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         if (nbtTags.contains(NBTConstants.ITEMS, Tag.TAG_LIST)) {
             ListTag tagList = nbtTags.getList(NBTConstants.ITEMS, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                addStack(nextId++, TransporterStack.readFromNBT(provider, tagList.getCompound(i)));
+                addStack(nextStackId(), TransporterStack.readFromNBT(provider, tagList.getCompound(i)));
             }
         }
     }
@@ -371,12 +448,41 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     public void deleteStack(int id) {
         transit.remove(id);
+        if (isRemote()) {
+            removeForwarded(id);
+        }
+    }
+
+    /**
+     * @return An id that isn't in use by any stack in this transporter. Stacks that moved in from other transporters may have kept the id they had there, so we skip over
+     * any ids that are already taken.
+     */
+    private int nextStackId() {
+        int id;
+        do {
+            id = nextId++;
+        } while (transit.containsKey(id));
+        return id;
     }
 
     public void addStack(int id, TransporterStack s) {
+        if (isRemote()) {
+            //The server has the stack in this transporter, so remove any copy we moved ahead of it
+            removeForwarded(id);
+        }
         transit.put(id, s);
     }
 
+    private void removeForwarded(int id) {
+        ForwardedStack forwardedStack = forwarded.remove(id);
+        if (forwardedStack != null) {
+            TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, getLevel(), forwardedStack.pos());
+            if (tile != null) {
+                tile.getTransmitter().deleteStack(id);
+            }
+        }
+    }
+
     private boolean recalculate(int stackId, TransporterStack stack, BlockPos from) {
         //TODO: Why do we skip recalculating the path if it is idle. Is it possible for idle paths to eventually stop being idle or are they just idle forever??
         boolean noPath = stack.getPathType().noTarget() || stack.recalculatePath(TransitRequest.simple(stack.itemStack), this, 0).isEmpty();
@@ -439,7 +545,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         if (!response.isEmpty()) {
             stack.itemStack = response.getStack();
             if (doEmit) {
-                int stackId = nextId++;
+                int stackId = nextStackId();
                 addStack(stackId, stack);
                 PacketUtils.sendToAllTracking(PacketTransporterSync.create(getBlockPos(), stackId, stack), getTransmitterTile());
                 getTransmitterTile().markForSave();
@@ -448,22 +554,37 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return response;
     }
 
-    private void entityEntering(TransporterStack stack, int progress) {
+    /**
+     * @return {@code true} if the stack kept its id, and clients don't need to be told about the stack leaving the previous transporter.
+     */
+    private boolean entityEntering(BlockPos from, int stackId, TransporterStack stack, int progress, boolean simulated) {
+        stack.progress = progress;
+        if (simulated && !transit.containsKey(stackId)) {
+            //Clients know the route of the stack and will move it into this transporter themselves, so we only have to tell players about it that
+            // can see this transporter but couldn't see the one the stack came from
+            addStack(stackId, stack);
+            PacketUtils.sendToAllNewlyTracking(() -> new PacketTransporterSync(getBlockPos(), stackId, stack.updateForNewlyTracking(getBlockPos())), getLevel(),
+                  from, getBlockPos());
+            return true;
+        }
         // Update the progress of the stack and add it as something that's both
         // in transit and needs sync down to the client.
         //
         // This code used to generate a sync message at this point, but that was a LOT
         // of bandwidth in a busy server, so by adding to needsSync, the sync will happen
         // in a batch on a per-tick basis.
-        int stackId = nextId++;
-        stack.progress = progress;
-        addStack(stackId, stack);
-        needsSync.put(stackId, stack);
+        int newId = nextStackId();
+        addStack(newId, stack);
+        needsSync.put(newId, stack);
 
         // N.B. We are not marking the chunk as dirty here! I don't believe it's needed, since
         // the next tick will generate the necessary save and if we crash before the next tick,
         // it's unlikely the data will be saved anyway (since chunks aren't saved until the end of
         // a tick).
+        return false;
+    }
+
+    private record ForwardedStack(BlockPos pos, long time) {
     }
 
     @FunctionalInterface
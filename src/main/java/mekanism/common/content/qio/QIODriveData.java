@@ -2,6 +2,13 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.qio.DriveContents;
@@ -17,6 +24,11 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    // item types that have changed since the contents were last saved
+    private final Set<HashedItem> changedTypes = new HashSet<>();
+    // contents as of the last save, which may still be getting calculated in the background
+    private CompletableFuture<DriveContents> savedContents;
+    private boolean savePending;
     private long itemCount;
 
     public QIODriveData(QIODriveKey key) {
@@ -27,7 +39,13 @@ public class QIODriveData {
         countCapacity = driveItem.getCountCapacity(driveStack);
         typeCapacity = driveItem.getTypeCapacity(driveStack);
         // load item map from drive stack
-        driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY).loadItemMap(this);
+        DriveContents contents = driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+        contents.loadItemMap(this);
+        if (contents.namedItemMap().size() != itemMap.size()) {
+            //Some types couldn't be loaded, recreate the contents so that we don't keep saving the types we don't know about
+            contents = DriveContents.create(this);
+        }
+        savedContents = CompletableFuture.completedFuture(contents);
         // update cached item count value
         itemCount = itemMap.values().longStream().sum();
 
@@ -43,6 +61,7 @@ public class QIODriveData {
         long toAdd = Math.min(amount, countCapacity - itemCount);
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
+            changedTypes.add(type);
             itemCount += toAdd;
             key.updateMetadata(this);
             key.dataUpdate();
@@ -60,6 +79,7 @@ public class QIODriveData {
             } else {
                 itemMap.removeLong(type);
             }
+            changedTypes.add(type);
             itemCount -= removed;
             key.updateMetadata(this);
             key.dataUpdate();
@@ -67,6 +87,72 @@ public class QIODriveData {
         return removed;
     }
 
+    /**
+     * @return {@code true} if any items have changed since the contents of this drive were last saved.
+     */
+    public boolean isDirty() {
+        return !changedTypes.isEmpty();
+    }
+
+    /**
+     * Saves the contents of this drive to the drive stack, only looking up the item types that changed since the last save.
+     */
+    public void save() {
+        DriveContents contents = getSavedContents();
+        if (!changedTypes.isEmpty()) {
+            contents = contents.withChanges(collectChanges());
+            savedContents = CompletableFuture.completedFuture(contents);
+        }
+        savePending = false;
+        key.saveContents(contents);
+    }
+
+    /**
+     * Starts building the contents of this drive in the background. Only the item types that changed since the last save are looked up on the calling thread, and the
+     * contents get written to the drive stack by {@link #applySave()} once they are ready.
+     */
+    public void saveAsync(Executor executor) {
+        if (!changedTypes.isEmpty()) {
+            Object2LongMap<UUID> changes = collectChanges();
+            savedContents = savedContents.thenApplyAsync(contents -> contents.withChanges(changes), executor);
+            savePending = true;
+        }
+    }
+
+    /**
+     * Writes the contents that were built in the background to the drive stack if they are ready.
+     *
+     * @return {@code true} if the contents are still being built.
+     */
+    public boolean applySave() {
+        if (savePending && savedContents.isDone()) {
+            savePending = false;
+            key.saveContents(getSavedContents());
+        }
+        return savePending;
+    }
+
+    private Object2LongMap<UUID> collectChanges() {
+        Object2LongMap<UUID> changes = new Object2LongOpenHashMap<>(changedTypes.size());
+        for (HashedItem type : changedTypes) {
+            changes.put(QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type), getStored(type));
+        }
+        changedTypes.clear();
+        return changes;
+    }
+
+    private DriveContents getSavedContents() {
+        try {
+            return savedContents.join();
+        } catch (CompletionException | CancellationException e) {
+            Mekanism.logger.error("Failed to build the contents of a QIO drive in the background, saving the entire drive instead.", e);
+            changedTypes.clear();
+            DriveContents contents = DriveContents.create(this);
+            savedContents = CompletableFuture.completedFuture(contents);
+            return contents;
+        }
+    }
+
     public long getStored(HashedItem type) {
         return itemMap.getOrDefault(type, 0L);
     }
@@ -101,6 +187,10 @@ public class QIODriveData {
             holder.save(driveSlot, data);
         }
 
+        public void saveContents(DriveContents contents) {
+            holder.save(driveSlot, contents);
+        }
+
         public void dataUpdate() {
             holder.onDataUpdate();
         }
@@ -5,12 +5,21 @@ import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -24,7 +33,6 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
-import java.util.function.ToLongFunction;
 import mekanism.api.Action;
 import mekanism.api.NBTConstants;
 import mekanism.api.inventory.IHashedItem;
@@ -35,10 +43,10 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
@@ -49,6 +57,7 @@ import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
+import net.minecraft.Util;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.server.level.ServerPlayer;
@@ -63,6 +72,7 @@ import org.jetbrains.annotations.Nullable;
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
     private static final RandomSource rand = RandomSource.create();
+    private static final TypePostings[] NO_TAGS = new TypePostings[0];
     public static final Codec<QIOFrequency> CODEC = RecordCodecBuilder.create(instance -> baseCodec(instance)
           .and(EnumColor.CODEC.fieldOf(NBTConstants.COLOR).forGetter(QIOFrequency::getColor))
           .apply(instance, (name, owner, securityMode, color) -> {
@@ -90,12 +100,19 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     );
 
     private final SequencedMap<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
+    // small int index for each drive, so that we can compactly keep track of which drives contain each item type
+    private final Object2IntMap<QIODriveKey> driveIndices = new Object2IntOpenHashMap<>();
+    private final List<@Nullable QIODriveData> drivesByIndex = new ObjectArrayList<>();
+    private final IntList freeDriveIndices = new IntArrayList();
     private final SequencedMap<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // int id for each stored item type, so that the tag and modid lookups can store ids instead of the types themselves
+    private final List<@Nullable QIOItemTypeData> typesById = new ObjectArrayList<>();
+    private final IntList freeTypeIds = new IntArrayList();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    private final Map<String, TypePostings> tagLookupMap = new Object2ObjectOpenHashMap<>();
     // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
+    private final Map<String, TypePostings> modIDLookupMap = new Object2ObjectOpenHashMap<>();
     // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
     private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
@@ -105,13 +122,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
+    private final Set<HashedItem> updatedItems = new HashSet<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
+    /** Number of ticks until we can next send changed item data to viewing clients, so that changes get coalesced into a single packet. */
+    private int viewerSyncCooldown;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** If any drives have contents being built in the background that still need to be written to the drive. */
+    private boolean hasPendingSaves;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -174,7 +195,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             data = itemDataMap.get(type);
             if (data == null) {
                 // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
+                data = new QIOItemTypeData(type, -1);
             }
         }
         return amount - data.add(amount, action);
@@ -207,32 +228,75 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
         ItemStack stack = type.getInternalStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
-            }
+        int id = claimIndex(typesById, freeTypeIds);
+        QIOItemTypeData data = new QIOItemTypeData(type, id);
+        typesById.set(id, data);
+        if (indexTags(data)) {
+            //If we added any tags that we didn't have any items for before, then we need to clear our wildcard cache
+            // as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
         }
         String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> modItems = modIDLookupMap.get(modID);
+        TypePostings modItems = modIDLookupMap.get(modID);
         if (modItems == null) {
             //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
             // as our new modid may be valid for some of our wildcards
             modIDWildcardCache.clear();
             failedWildcardModIDs.clear();
-            modItems = new HashSet<>();
+            modItems = new TypePostings(modID);
             modIDLookupMap.put(modID, modItems);
         }
-        modItems.add(type);
+        modItems.types.add(id);
+        data.modID = modItems;
         //Fuzzy item lookup has no wildcard cache related to it
         fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
         //Ensure we have a matching uuid for this item
         QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        return data;
+    }
+
+    /**
+     * Adds the given type to the postings of all the tags it has.
+     *
+     * @return {@code true} if any of the tags didn't have any items stored before.
+     */
+    private boolean indexTags(QIOItemTypeData data) {
+        List<String> tags = TagCache.getItemTags(data.itemType.getInternalStack());
+        if (tags.isEmpty()) {
+            data.tags = NO_TAGS;
+            return false;
+        }
+        boolean addedTag = false;
+        data.tags = new TypePostings[tags.size()];
+        for (int i = 0; i < data.tags.length; i++) {
+            String tag = tags.get(i);
+            TypePostings postings = tagLookupMap.get(tag);
+            if (postings == null) {
+                postings = new TypePostings(tag);
+                tagLookupMap.put(tag, postings);
+                addedTag = true;
+            }
+            postings.types.add(data.id);
+            data.tags[i] = postings;
+        }
+        return addedTag;
+    }
+
+    /**
+     * Claims the first free index of the given list, growing the list if there are no free indices.
+     */
+    private static int claimIndex(List<?> list, IntList freeIndices) {
+        if (freeIndices.isEmpty()) {
+            list.add(null);
+            return list.size() - 1;
+        }
+        return freeIndices.removeInt(freeIndices.size() - 1);
+    }
+
+    private static void releaseIndex(List<?> list, IntList freeIndices, int index) {
+        list.set(index, null);
+        freeIndices.add(index);
     }
 
     @Override
@@ -290,30 +354,29 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
+        QIOItemTypeData data = itemDataMap.remove(type);
+        if (data == null) {
+            return;
+        }
+        if (unindexTags(data)) {
             //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
             // matching a tag that is no longer stored
             tagWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
         }
-        ItemStack stack = type.getInternalStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
+        TypePostings itemsForMod = data.modID;
+        //In theory if we are removing an item, and it existed we should have postings corresponding to it,
         // but double check that it is not null just in case
         // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
         // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
         // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
+        if (itemsForMod != null && itemsForMod.types.remove(data.id) && itemsForMod.types.isEmpty()) {
+            modIDLookupMap.remove(itemsForMod.key);
             modIDWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
         }
-        Item item = stack.getItem();
+        releaseIndex(typesById, freeTypeIds, data.id);
+        Item item = type.getItem();
         Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
         //In theory if we are removing an item, and it existed we should have a set corresponding to it,
         // but double check that it is not null just in case
@@ -324,43 +387,71 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
     }
 
+    /**
+     * Removes the given type from the postings of all the tags it has.
+     *
+     * @return {@code true} if there are now no items stored for any of the tags.
+     */
+    private boolean unindexTags(QIOItemTypeData data) {
+        boolean removedTag = false;
+        for (TypePostings postings : data.tags) {
+            if (postings.types.remove(data.id) && postings.types.isEmpty()) {
+                tagLookupMap.remove(postings.key);
+                removedTag = true;
+            }
+        }
+        data.tags = NO_TAGS;
+        return removedTag;
+    }
+
     public Set<HashedItem> getTypesForItem(Item item) {
         return fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet());
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
-        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
+        Set<HashedItem> items = fuzzyItemLookupMap.get(item);
+        if (items == null || items.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(items.size());
+        for (HashedItem type : items) {
+            ret.put(type, getStoredByHash(type));
+        }
+        return ret;
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(tagLookupMap.get(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
         return getStacksWithCounts(modIDLookupMap.get(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable TypePostings postings) {
+        if (postings == null || postings.types.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStoredByHash(item));
-        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(postings.types.size());
+        addStacksWithCounts(ret, postings);
         return ret;
     }
 
+    private void addStacksWithCounts(Object2LongMap<HashedItem> ret, TypePostings postings) {
+        for (IntIterator iterator = postings.types.iterator(); iterator.hasNext(); ) {
+            QIOItemTypeData data = typesById.get(iterator.nextInt());
+            //Note: An item may already be in the map if it has multiple tags that match a wildcard, but as the count will be the same we can just overwrite it
+            ret.put(data.itemType, data.count);
+        }
+    }
+
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
+        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
             for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, storedFunction);
+                TypePostings postings = tagLookupMap.get(match);
+                if (postings != null) {
+                    addStacksWithCounts(ret, postings);
                 }
             }
             return ret;
@@ -372,11 +463,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStoredByHash(item));
+                TypePostings postings = modIDLookupMap.get(match);
+                if (postings != null) {
+                    addStacksWithCounts(ret, postings);
                 }
             }
             return ret;
@@ -496,14 +585,19 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
+        if (viewerSyncCooldown > 0) {
+            viewerSyncCooldown--;
+        }
+        if ((!updatedItems.isEmpty() || needsUpdate) && viewerSyncCooldown == 0) {
+            //Wait before sending the next update, so that changes over the next few ticks get sent as a single packet
+            viewerSyncCooldown = MekanismConfig.general.qioViewerSyncInterval.get() - 1;
             //Only calculate the packet and the update map if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
             Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
                 Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
+                for (HashedItem type : updatedItems) {
+                    UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(type);
+                    if (uuid != null) {//The uuid should never be null as we create a UUID if there isn't one before adding but validate it
                         QIOItemTypeData data = itemDataMap.get(type);
                         map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
                     }
@@ -529,16 +623,22 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (isDirty && rand.nextInt(5 * SharedConstants.TICKS_PER_SECOND) == 0) {
             //Note: We don't have this affect our super dirty value as this is for if the drives are dirty,
             // not for if the frequency is dirty
-            saveAll();
+            saveChangedAsync();
             isDirty = false;
         }
+        if (hasPendingSaves) {
+            hasPendingSaves = false;
+            for (QIODriveData data : driveMap.values()) {
+                hasPendingSaves |= data.applySave();
+            }
+        }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
             tagWildcardCache.clear();
             for (QIOItemTypeData item : itemDataMap.values()) {
-                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
+                indexTags(item);
             }
         }
         return superDirty;
@@ -605,6 +705,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            int driveIndex = claimIndex(drivesByIndex, freeDriveIndices);
+            drivesByIndex.set(driveIndex, data);
+            driveIndices.put(key, driveIndex);
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
                 itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
@@ -619,13 +722,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return;
         }
         QIODriveData data = driveMap.get(key);
+        int driveIndex = driveIndices.removeInt(key);
         if (updateItemMap) {
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
                 long value = entry.getLongValue();
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.containingDrives.clear(driveIndex);
                     itemData.count -= value;
                     totalCount -= value;
                     markForUpdate(storedKey);
@@ -641,9 +745,15 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        if (updateItemMap) {
+            releaseIndex(drivesByIndex, freeDriveIndices, driveIndex);
+        } else {
+            //Note: We don't reuse the index as the item types stored in the drive may still think they are stored in it
+            drivesByIndex.set(driveIndex, null);
+        }
         // save the item list onto the physical drive
         key.updateMetadata(data);
-        key.save(data);
+        data.save();
     }
 
     public void saveAll() {
@@ -651,7 +761,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             QIODriveKey key = entry.getKey();
             QIODriveData value = entry.getValue();
             key.updateMetadata(value);
-            key.save(value);
+            value.save();
+        }
+        hasPendingSaves = false;
+    }
+
+    /**
+     * Saves the drives that have changed since they were last saved, building their new contents in the background.
+     */
+    private void saveChangedAsync() {
+        for (QIODriveData data : driveMap.values()) {
+            if (data.isDirty()) {
+                data.saveAsync(Util.backgroundExecutor());
+                hasPendingSaves = true;
+            }
         }
     }
 
@@ -660,14 +783,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                updatedItems.add(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            updatedItems.add(changedItem);
         }
     }
 
@@ -678,33 +801,42 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
+        private final int id;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        // indices of the drives that contain this item type
+        private final BitSet containingDrives = new BitSet();
+        private TypePostings[] tags = NO_TAGS;
+        @Nullable
+        private TypePostings modID;
 
-        public QIOItemTypeData(HashedItem itemType) {
+        private QIOItemTypeData(HashedItem itemType, int id) {
             this.itemType = itemType;
+            this.id = id;
         }
 
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            containingDrives.set(driveIndices.getInt(data.getKey()));
             setNeedsUpdate();
         }
 
         private long add(long amount, Action action) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
-                if (toAdd == 0) {
-                    break;
+            for (int i = containingDrives.nextSetBit(0); i >= 0; i = containingDrives.nextSetBit(i + 1)) {
+                QIODriveData data = drivesByIndex.get(i);
+                if (data != null) {
+                    toAdd = addItemsToDrive(toAdd, data, action);
+                    if (toAdd == 0) {
+                        break;
+                    }
                 }
             }
             // next, we add the items to any drive that will take it
             if (toAdd > 0) {
                 for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
+                    if (!containingDrives.get(driveIndices.getInt(data.getKey()))) {
                         toAdd = addItemsToDrive(toAdd, data, action);
                         if (toAdd == 0) {
                             break;
@@ -724,19 +856,22 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
             long rejects = data.add(itemType, toAdd, action);
             if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                containingDrives.set(driveIndices.getInt(data.getKey()));
             }
             return rejects;
         }
 
         private long remove(long amount, Action action) {
             long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (int i = containingDrives.nextSetBit(0); i >= 0; i = containingDrives.nextSetBit(i + 1)) {
+                QIODriveData data = drivesByIndex.get(i);
+                if (data == null) {
+                    continue;
+                }
                 removed += data.remove(itemType, amount - removed, action);
                 // remove this drive from containingDrives if it doesn't have this item anymore
                 if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
+                    containingDrives.clear(i);
                 }
                 // break early if we found enough items
                 if (removed == amount) {
@@ -760,4 +895,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return count;
         }
     }
+
+    /**
+     * Ids of the stored item types that have a given tag or modid.
+     */
+    private static class TypePostings {
+
+        private final String key;
+        private final IntSet types = new IntOpenHashSet();
+
+        private TypePostings(String key) {
+            this.key = key;
+        }
+    }
 }
@@ -1,64 +1,204 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.lib.collection.LRU;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Cache of the paths that have been found between logistical transporters and their destinations. The cache is bounded, evicting the least recently used paths once it
+ * is full, and when a network changes only the paths that pass through the positions that changed get removed where possible.
+ */
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final LRU<PathKey> recentlyUsed = new LRU<>();
+    private static long hits;
+    private static long misses;
+    private static long invalidated;
+    private static long evicted;
 
+    /**
+     * Removes all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            NetworkPaths paths = cachedPaths.remove(network.getUUID());
+            if (paths != null) {
+                for (PathData data : paths.paths.keySet()) {
+                    recentlyUsed.remove(new PathKey(network.getUUID(), data));
+                }
+                invalidated += paths.paths.size();
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths of the given network that pass through, or end at, the given position.
+     */
+    public static void onChanged(InventoryNetwork network, BlockPos changed) {
+        UUID uuid = network.getUUID();
+        NetworkPaths paths = cachedPaths.get(uuid);
+        if (paths != null) {
+            Set<PathData> affected = paths.pathsByPosition.remove(changed.asLong());
+            if (affected != null) {
+                for (PathData data : affected.toArray(new PathData[0])) {
+                    paths.remove(data);
+                    recentlyUsed.remove(new PathKey(uuid, data));
+                    invalidated++;
+                }
+                if (paths.paths.isEmpty()) {
+                    cachedPaths.remove(uuid);
+                }
+            }
         }
     }
 
     public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
         CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (maxSize > 0) {
+            UUID uuid = start.getTransmitterNetwork().getUUID();
+            PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
+            PathKey key = new PathKey(uuid, data);
+            if (cachedPaths.computeIfAbsent(uuid, u -> new NetworkPaths()).add(data, cachedPath)) {
+                recentlyUsed.add(key);
+                while (recentlyUsed.size() > maxSize) {
+                    evict(recentlyUsed.pollLast());
+                }
+            } else {
+                recentlyUsed.moveUp(key);
+            }
+        }
         return cachedPath;
     }
 
+    private static void evict(@Nullable PathKey key) {
+        if (key != null) {
+            NetworkPaths paths = cachedPaths.get(key.network());
+            if (paths != null) {
+                paths.remove(key.data());
+                if (paths.paths.isEmpty()) {
+                    cachedPaths.remove(key.network());
+                }
+            }
+            evicted++;
+        }
+    }
+
     @Nullable
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
+        PathData retData = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
+        NetworkPaths paths = cachedPaths.get(uuid);
+        if (paths != null) {
             BlockPos startPos = start.getBlockPos();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                PathData data = new PathData(startPos, end, side);
+                CachedPath test = paths.paths.get(data);
                 if (test != null) {
                     if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
+                        retData = data;
                     }
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+            recentlyUsed.moveUp(new PathKey(uuid, retData));
+        }
         return ret;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        recentlyUsed.clear();
+        hits = 0;
+        misses = 0;
+        invalidated = 0;
+        evicted = 0;
+    }
+
+    /**
+     * @return A snapshot of how effective the cache has been since the server started.
+     */
+    public static CacheStats getStats() {
+        return new CacheStats(recentlyUsed.size(), MekanismConfig.general.transporterPathCacheSize.get(), hits, misses, invalidated, evicted);
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
+    public record CacheStats(int size, int maxSize, long hits, long misses, long invalidated, long evicted) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+
     private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
     }
-}
\ No newline at end of file
+
+    private record PathKey(UUID network, PathData data) {
+    }
+
+    /**
+     * Paths cached for a single network, along with an index of which paths go through each position so that we can invalidate paths by position.
+     */
+    private static class NetworkPaths {
+
+        private final Map<PathData, CachedPath> paths = new Object2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<Set<PathData>> pathsByPosition = new Long2ObjectOpenHashMap<>();
+
+        /**
+         * @return {@code true} if there was no path cached for the given data before.
+         */
+        private boolean add(PathData data, CachedPath path) {
+            CachedPath old = paths.put(data, path);
+            if (old != null) {
+                unindex(data, old);
+            }
+            for (BlockPos pos : path.path()) {
+                pathsByPosition.computeIfAbsent(pos.asLong(), p -> new ObjectOpenHashSet<>()).add(data);
+            }
+            return old == null;
+        }
+
+        private void remove(PathData data) {
+            CachedPath path = paths.remove(data);
+            if (path != null) {
+                unindex(data, path);
+            }
+        }
+
+        private void unindex(PathData data, CachedPath path) {
+            for (BlockPos pos : path.path()) {
+                long key = pos.asLong();
+                Set<PathData> indexed = pathsByPosition.get(key);
+                if (indexed != null && indexed.remove(data) && indexed.isEmpty()) {
+                    pathsByPosition.remove(key);
+                }
+            }
+        }
+    }
+}
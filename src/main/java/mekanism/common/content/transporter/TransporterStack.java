@@ -1,5 +1,6 @@
 package mekanism.common.content.transporter;
 
+import com.mojang.datafixers.util.Either;
 import io.netty.buffer.ByteBuf;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -10,6 +11,7 @@ import java.util.Set;
 import java.util.function.IntFunction;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
@@ -19,12 +21,14 @@ import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -39,22 +43,48 @@ import org.jetbrains.annotations.Nullable;
 
 public class TransporterStack {
 
+    /**
+     * How long the client keeps showing a stack that is at the end of a transporter without being able to move any further. The server moves or corrects stacks as soon
+     * as they reach the end of a transporter, so a stack that stays stuck this long means the server removed it from a transporter the client didn't know the stack was
+     * in.
+     */
+    private static final int MAX_CLIENT_TICKS_STUCK = 2 * SharedConstants.TICKS_PER_SECOND;
+    /**
+     * The most positions of a stack's route that get synced to the client at once. Once the client has moved the stack to the end of the part of the route it knows
+     * about, the server syncs the stack again with the next part of the route.
+     */
+    private static final int MAX_SYNCED_ROUTE = 16;
+
+    private static final StreamCodec<ByteBuf, Optional<BlockPos>> CLIENT_NEXT_STREAM_CODEC = ByteBufCodecs.optional(BlockPos.STREAM_CODEC);
+    private static final StreamCodec<ByteBuf, List<BlockPos>> ROUTE_STREAM_CODEC = BlockPos.STREAM_CODEC.apply(ByteBufCodecs.list());
+    //Either just the next position, or when the route is synced the full route the next position can be determined from
+    private static final StreamCodec<ByteBuf, Either<Optional<BlockPos>, List<BlockPos>>> CLIENT_NEXT_OR_ROUTE_STREAM_CODEC = StreamCodec.of(
+          (buffer, nextOrRoute) -> nextOrRoute.ifLeft(clientNext -> {
+              buffer.writeBoolean(false);
+              CLIENT_NEXT_STREAM_CODEC.encode(buffer, clientNext);
+          }).ifRight(route -> {
+              buffer.writeBoolean(true);
+              ROUTE_STREAM_CODEC.encode(buffer, route);
+          }),
+          buffer -> buffer.readBoolean() ? Either.right(ROUTE_STREAM_CODEC.decode(buffer)) : Either.left(CLIENT_NEXT_STREAM_CODEC.decode(buffer))
+    );
     //Make sure to call updateForPos before calling this method
     public static StreamCodec<RegistryFriendlyByteBuf, TransporterStack> STREAM_CODEC = NeoForgeStreamCodecs.composite(
           EnumColor.OPTIONAL_STREAM_CODEC, stack -> Optional.ofNullable(stack.color),
           ByteBufCodecs.VAR_INT, stack -> stack.progress,
           BlockPos.STREAM_CODEC, stack -> stack.originalLocation,
           Path.STREAM_CODEC, TransporterStack::getPathType,
-          ByteBufCodecs.optional(BlockPos.STREAM_CODEC), stack -> Optional.ofNullable(stack.clientNext),
+          CLIENT_NEXT_OR_ROUTE_STREAM_CODEC, TransporterStack::getClientNextOrRoute,
           BlockPos.STREAM_CODEC, stack -> stack.clientPrev,
           ItemStack.OPTIONAL_STREAM_CODEC, stack -> stack.itemStack,
-          (color, progress, originalLocation, pathType, clientNext, clientPrev, itemStack) -> {
+          (color, progress, originalLocation, pathType, clientNextOrRoute, clientPrev, itemStack) -> {
               TransporterStack stack = new TransporterStack();
               stack.color = color.orElse(null);
               stack.progress = progress == 0 ? 5 : progress;
               stack.originalLocation = originalLocation;
               stack.pathType = pathType;
-              stack.clientNext = clientNext.orElse(null);
+              clientNextOrRoute.ifLeft(clientNext -> stack.clientNext = clientNext.orElse(null))
+                    .ifRight(stack::setClientRoute);
               stack.clientPrev = clientPrev;
               stack.itemStack = itemStack;
               return stack;
@@ -75,6 +105,21 @@ public class TransporterStack {
     @Nullable
     private BlockPos clientNext;
     private BlockPos clientPrev;
+    /**
+     * The part of the path that is ahead of the transporter this stack is in, ordered from the furthest known position to the next position. This is only synced when the
+     * route of stacks is synced, in which case the client moves the stack between transporters itself instead of the server syncing each move.
+     */
+    @Nullable
+    private List<BlockPos> clientRoute;
+    /**
+     * Server side only: Index in the path of the furthest position that clients were told about as part of the route, or {@code -1} if the route hasn't been synced
+     * since the path was last set.
+     */
+    private int syncedRouteEnd = -1;
+    /**
+     * Client side only: Number of ticks that this stack has been at the end of the transporter it is in.
+     */
+    private int clientTicksStuck;
     @Nullable
     private Path pathType;
     private List<BlockPos> pathToTarget = new ArrayList<>();
@@ -103,6 +148,14 @@ public class TransporterStack {
             updateTag.put(NBTConstants.CLIENT_NEXT, NbtUtils.writeBlockPos(next));
         }
         updateTag.put(NBTConstants.CLIENT_PREVIOUS, NbtUtils.writeBlockPos(getPrev(transporter)));
+        if (MekanismConfig.general.transporterRouteSync.get()) {
+            List<BlockPos> route = getRoute(transporter.getBlockPos());
+            long[] packedRoute = new long[route.size()];
+            for (int i = 0; i < packedRoute.length; i++) {
+                packedRoute[i] = route.get(i).asLong();
+            }
+            updateTag.putLongArray(NBTConstants.CLIENT_ROUTE, packedRoute);
+        }
         if (!itemStack.isEmpty()) {
             itemStack.save(provider, updateTag);
         }
@@ -115,6 +168,14 @@ public class TransporterStack {
         NBTUtils.setEnumIfPresent(updateTag, NBTConstants.PATH_TYPE, Path.BY_ID, type -> pathType = type);
         NBTUtils.setBlockPosIfPresent(updateTag, NBTConstants.CLIENT_NEXT, coord -> clientNext = coord);
         NBTUtils.setBlockPosIfPresent(updateTag, NBTConstants.CLIENT_PREVIOUS, coord -> clientPrev = coord);
+        if (updateTag.contains(NBTConstants.CLIENT_ROUTE, Tag.TAG_LONG_ARRAY)) {
+            long[] packedRoute = updateTag.getLongArray(NBTConstants.CLIENT_ROUTE);
+            List<BlockPos> route = new ArrayList<>(packedRoute.length);
+            for (long pos : packedRoute) {
+                route.add(BlockPos.of(pos));
+            }
+            setClientRoute(route);
+        }
         itemStack = ItemStack.parseOptional(provider, updateTag);
     }
 
@@ -158,6 +219,7 @@ public class TransporterStack {
         }
         pathToTarget = path;
         pathType = type;
+        syncedRouteEnd = -1;
         if (updateFlowing && pathType.hasTarget()) {
             //Only update the actual flowing stacks if we want to modify more than our current stack
             TransporterManager.add(world, this);
@@ -240,11 +302,88 @@ public class TransporterStack {
 
     //TODO - 1.20.5: Re-evaluate this method
     public TransporterStack updateForPos(BlockPos pos) {
+        //Everyone that knows about this stack is tracking the transporter it is in, so we can tell all of them about the next part of the route
+        syncedRouteEnd = -1;
+        return updateForNewlyTracking(pos);
+    }
+
+    /**
+     * Like {@link #updateForPos(BlockPos)} but for syncing this stack to players that didn't know about it yet. This keeps the route ending at the same position as the
+     * route that other players were told about, so that all clients stop moving the stack at the same point.
+     */
+    public TransporterStack updateForNewlyTracking(BlockPos pos) {
         clientNext = getNext(pos);
         clientPrev = getPrev(pos);
+        //Note: We copy the route as the packet may be encoded after the path of this stack changes
+        clientRoute = MekanismConfig.general.transporterRouteSync.get() ? getRoute(pos) : null;
         return this;
     }
 
+    /**
+     * @return The part of the path that is ahead of the given position and that clients know or are being told about, ordered from the furthest position to the next
+     * position.
+     */
+    private List<BlockPos> getRoute(BlockPos pos) {
+        int index = pathToTarget.indexOf(pos);
+        if (index <= 0) {
+            return List.of();
+        } else if (syncedRouteEnd == -1) {
+            syncedRouteEnd = Math.max(0, index - MAX_SYNCED_ROUTE);
+        }
+        return List.copyOf(pathToTarget.subList(Math.min(syncedRouteEnd, index), index));
+    }
+
+    /**
+     * Server side only: Checks if clients that know about this stack will move it from the transporter at the given position into the next one themselves.
+     *
+     * @implNote This mirrors {@link #canClientMove()} for the route that clients were last told about.
+     */
+    public boolean canClientsMoveFrom(BlockPos pos) {
+        return syncedRouteEnd != -1 && pathToTarget.indexOf(pos) - syncedRouteEnd > (getPathType().hasTarget() ? 1 : 0);
+    }
+
+    private Either<Optional<BlockPos>, List<BlockPos>> getClientNextOrRoute() {
+        return clientRoute == null ? Either.left(Optional.ofNullable(clientNext)) : Either.right(clientRoute);
+    }
+
+    private void setClientRoute(List<BlockPos> route) {
+        clientRoute = route;
+        clientNext = route.isEmpty() ? null : route.getLast();
+    }
+
+    /**
+     * Client side only: Checks if the client knows the route of this stack and the next position is a transporter this stack should move into.
+     */
+    public boolean canClientMove() {
+        //Note: If there is a target the destination is the last position in the route and isn't a transporter. If the route was cut short, we stop one position
+        // early as well, as the server will sync the stack again when it moves past there
+        return clientRoute != null && clientRoute.size() > (getPathType().hasTarget() ? 1 : 0);
+    }
+
+    /**
+     * Client side only: Moves this stack from the transporter at the given position to the next transporter in its route.
+     *
+     * @param pos Position of the transporter this stack is moving out of.
+     */
+    public void clientMoveToNext(BlockPos pos) {
+        if (clientRoute != null && !clientRoute.isEmpty()) {
+            //Note: We use a view rather than modifying the route, as the route may be immutable
+            setClientRoute(clientRoute.subList(0, clientRoute.size() - 1));
+            clientPrev = pos;
+            progress %= 100;
+            clientTicksStuck = 0;
+        }
+    }
+
+    /**
+     * Client side only: Marks that this stack is at the end of its transporter but wasn't able to move on this tick.
+     *
+     * @return {@code true} if this stack has been stuck for long enough that the server should have corrected it by now if it still existed.
+     */
+    public boolean clientMarkStuck() {
+        return ++clientTicksStuck > MAX_CLIENT_TICKS_STUCK;
+    }
+
     @Nullable
     public BlockPos getNext(LogisticalTransporterBase transporter) {
         return transporter.isRemote() ? clientNext : getNext(transporter.getBlockPos());
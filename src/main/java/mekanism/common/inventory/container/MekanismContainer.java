@@ -665,16 +665,20 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            List<PropertyData> dirtyData = null;
             RegistryAccess registryAccess = player.level().registryAccess();
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
+            if (dirtyData != null) {
+                //Send all the changes in a single packet
                 PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
             }
         }
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +62,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = SharedConstants.TICKS_PER_SECOND;
+    /**
+     * If more than one in this many of the item types change in a single update, we rebuild and resort the entire list instead of updating the changed entries in place.
+     */
+    private static final int FULL_SYNC_RATIO = 8;
+    private static final int MAX_CACHED_SEARCHES = 16;
 
     public static int getSlotsYMax() {
         int maxY = Mth.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -77,10 +83,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     @Nullable
     private List<IScrollableSlot> itemList;
+    private Map<UUIDAwareHashedItem, ItemSlotData> itemSlots = new Object2ObjectOpenHashMap<>();
     @Nullable
     private List<IScrollableSlot> searchList;
 
-    private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private Map<String, SearchResults> searchCache = new Object2ObjectOpenHashMap<>();
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -137,6 +144,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
+        container.itemSlots = itemSlots;
         container.searchList = searchList;
         container.searchCache = searchCache;
         container.searchQuery = searchQuery;
@@ -362,12 +370,55 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
                 cachedInventory.put(entry.getKey(), value);
             }
         }
-        syncItemList();
+        if (itemList == null || itemMap.size() > itemList.size() / FULL_SYNC_RATIO) {
+            //If a large portion of the items changed, it is cheaper to just rebuild the list and sort it again
+            syncItemList();
+            return;
+        }
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        Level level = getLevel();
+        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+            UUIDAwareHashedItem key = entry.getKey();
+            long value = entry.getLongValue();
+            ItemSlotData oldSlot = value == 0 ? itemSlots.remove(key) : itemSlots.get(key);
+            if (oldSlot == null) {
+                if (value != 0) {
+                    //New item type, insert it into the list and any cached searches it matches in the correct position
+                    ItemSlotData newSlot = new ItemSlotData(key, key.getUUID(), value);
+                    itemSlots.put(key, newSlot);
+                    insertSorted(itemList, newSlot, comparator);
+                    for (SearchResults results : searchCache.values()) {
+                        if (results.query().test(level, key.getInternalStack())) {
+                            insertSorted(results.slots(), newSlot, comparator);
+                        }
+                    }
+                    totalItems += value;
+                }
+            } else if (value == 0) {
+                //Item type was removed
+                removeSorted(itemList, oldSlot, comparator);
+                for (SearchResults results : searchCache.values()) {
+                    removeSorted(results.slots(), oldSlot, comparator);
+                }
+                totalItems -= oldSlot.count();
+            } else if (oldSlot.count() != value) {
+                //Only the count changed, which doesn't change what searches the item matches, so just replace the slot wherever it is present
+                ItemSlotData newSlot = new ItemSlotData(key, oldSlot.itemUUID(), value);
+                itemSlots.put(key, newSlot);
+                replaceSorted(itemList, oldSlot, newSlot, comparator);
+                for (SearchResults results : searchCache.values()) {
+                    replaceSorted(results.slots(), oldSlot, newSlot, comparator);
+                }
+                totalItems += value - oldSlot.count();
+            }
+        }
     }
 
     public void handleKill() {
         itemList = null;
+        itemSlots.clear();
         searchList = null;
+        searchCache.clear();
         cachedInventory.clear();
     }
 
@@ -380,27 +431,79 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             itemList = new ArrayList<>();
         }
         itemList.clear();
+        itemSlots.clear();
         searchCache.clear();
         totalItems = 0;
-        //Note: While when only updating some items it would be better in terms of memory churn to just update
-        // the entries in the itemList that changed instead of creating a new ItemSlotData for each one that is the same,
-        // this greatly increases the time complexity of doing so due to having to find the matching entry in the itemList
-        // so is not worth doing so
+        //Note: Small updates are handled in place by handleUpdate, this is only used when a large portion of the items changed
         for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : cachedInventory.object2LongEntrySet()) {
             UUIDAwareHashedItem key = entry.getKey();
             long value = entry.getLongValue();
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
+            ItemSlotData slot = new ItemSlotData(key, key.getUUID(), value);
+            itemList.add(slot);
+            itemSlots.put(key, slot);
             totalItems += value;
         }
         sortItemList();
-        if (!searchQuery.isEmpty()) {
-            updateSearch(getLevel(), searchQuery);
-        }
     }
 
     private void sortItemList() {
         if (itemList != null) {
             sortType.sort(itemList, sortDirection);
+            //The cached searches are no longer in the same order as the item list, so recalculate the current search
+            searchCache.clear();
+            if (!searchQuery.isEmpty()) {
+                updateSearch(getLevel(), searchQuery);
+            }
+        }
+    }
+
+    /**
+     * Finds the index of the given slot in a list that is sorted by the given comparator.
+     *
+     * @return The index of the slot or {@code -1} if it is not in the list.
+     */
+    private static int indexOfSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        if (index < 0) {
+            return -1;
+        }
+        //Multiple slots may compare as equal (for example if two items have the same name), so check the neighbors for the exact slot
+        for (int i = index; i >= 0 && comparator.compare(list.get(i), slot) == 0; i--) {
+            if (list.get(i) == slot) {
+                return i;
+            }
+        }
+        for (int i = index + 1, size = list.size(); i < size && comparator.compare(list.get(i), slot) == 0; i++) {
+            if (list.get(i) == slot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void insertSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        list.add(index < 0 ? -index - 1 : index, slot);
+    }
+
+    private static void removeSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = indexOfSorted(list, slot, comparator);
+        if (index != -1) {
+            list.remove(index);
+        }
+    }
+
+    private static void replaceSorted(List<IScrollableSlot> list, IScrollableSlot oldSlot, IScrollableSlot newSlot, Comparator<IScrollableSlot> comparator) {
+        int index = indexOfSorted(list, oldSlot, comparator);
+        if (index != -1) {
+            if ((index == 0 || comparator.compare(list.get(index - 1), newSlot) <= 0) &&
+                (index == list.size() - 1 || comparator.compare(newSlot, list.get(index + 1)) <= 0)) {
+                //The slot is still in order where it was, just replace it
+                list.set(index, newSlot);
+            } else {
+                list.remove(index);
+                insertSorted(list, newSlot, comparator);
+            }
         }
     }
 
@@ -506,8 +609,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
         searchQuery = queryText;
-        searchList = searchCache.get(queryText);
-        if (searchList == null) {
+        SearchResults results = searchCache.get(queryText);
+        if (results == null) {
             searchList = new ArrayList<>();
             ISearchQuery query = SearchQueryParser.parse(queryText);
             for (IScrollableSlot slot : itemList) {
@@ -515,6 +618,15 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
                     searchList.add(slot);
                 }
             }
+            if (!queryText.isEmpty()) {
+                if (searchCache.size() >= MAX_CACHED_SEARCHES) {
+                    //Every cached search has to be kept up to date when items change, so don't let old searches build up
+                    searchCache.clear();
+                }
+                searchCache.put(queryText, new SearchResults(query, searchList));
+            }
+        } else {
+            searchList = results.slots();
         }
     }
 
@@ -559,6 +671,12 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private record ItemSlotData(HashedItem item, UUID itemUUID, long count) implements IScrollableSlot {
     }
 
+    /**
+     * @param slots Slots that match the query, in the same order as the item list.
+     */
+    private record SearchResults(ISearchQuery query, List<IScrollableSlot> slots) {
+    }
+
     public enum SortDirection implements IToggleEnum<SortDirection> {
         ASCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_up.png"), MekanismLang.LIST_SORT_ASCENDING_DESC),
         DESCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_down.png"), MekanismLang.LIST_SORT_DESCENDING_DESC);
@@ -609,8 +727,12 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             this.descendingComparator = descendingComparator;
         }
 
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
+        }
+
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+            list.sort(getComparator(direction));
         }
 
         @Override
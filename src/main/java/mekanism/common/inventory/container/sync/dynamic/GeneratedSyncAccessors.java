@@ -0,0 +1,132 @@
+package mekanism.common.inventory.container.sync.dynamic;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import mekanism.common.Mekanism;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Typed accessors for {@link ContainerSync} fields that are generated at compile time by the annotation processor, so that {@link SyncMapper} doesn't have to spin up
+ * lambdas for every synced field via reflection when the game loads, and so that primitive fields can be synced without boxing their values.
+ *
+ * @implNote Fields that don't have a generated accessor, for example because their getter or setter is private, fall back to being accessed via reflection.
+ */
+public class GeneratedSyncAccessors {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final Map<Class<?>, Map<String, Accessor>> accessors = new Object2ObjectOpenHashMap<>();
+
+    private GeneratedSyncAccessors() {
+    }
+
+    static void load() {
+        for (IContainerSyncRegistry registry : ServiceLoader.load(IContainerSyncRegistry.class)) {
+            registry.register();
+        }
+        if (accessors.isEmpty()) {
+            Mekanism.logger.warn("Didn't find any generated container sync accessors, falling back to reflection for all synced fields");
+        }
+    }
+
+    @Nullable
+    static Accessor get(Class<?> holder, String fieldName) {
+        Map<String, Accessor> fields = accessors.get(holder);
+        return fields == null ? null : fields.get(fieldName);
+    }
+
+    private static void register(Class<?> holder, String fieldName, Accessor accessor) {
+        accessors.computeIfAbsent(holder, h -> new Object2ObjectOpenHashMap<>()).put(fieldName, accessor);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <H> void registerInt(Class<H> holder, String fieldName, ToIntFunction<H> getter, @Nullable ObjIntConsumer<H> setter) {
+        register(holder, fieldName, new IntAccessor((ToIntFunction<Object>) getter, (ObjIntConsumer<Object>) setter));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <H> void registerLong(Class<H> holder, String fieldName, ToLongFunction<H> getter, @Nullable ObjLongConsumer<H> setter) {
+        register(holder, fieldName, new LongAccessor((ToLongFunction<Object>) getter, (ObjLongConsumer<Object>) setter));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <H> void registerDouble(Class<H> holder, String fieldName, ToDoubleFunction<H> getter, @Nullable ObjDoubleConsumer<H> setter) {
+        register(holder, fieldName, new DoubleAccessor((ToDoubleFunction<Object>) getter, (ObjDoubleConsumer<Object>) setter));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <H> void registerBoolean(Class<H> holder, String fieldName, Predicate<H> getter, @Nullable BooleanSetter<H> setter) {
+        register(holder, fieldName, new BooleanAccessor((Predicate<Object>) getter, (BooleanSetter<Object>) setter));
+    }
+
+    /**
+     * @param type Erased type of the field, used to look up how to sync the field in the same way as if it had been found via reflection.
+     */
+    @SuppressWarnings("unchecked")
+    public static <H> void registerObject(Class<H> holder, String fieldName, Class<?> type, Function<H, ?> getter, @Nullable BiConsumer<H, Object> setter) {
+        register(holder, fieldName, new ObjectAccessor(type, (Function<Object, Object>) getter, (BiConsumer<Object, Object>) setter));
+    }
+
+    @SuppressWarnings("unused")//used by the annotation processor
+    public static MethodHandle getGetterHandle(Class<?> containingClass, String fieldName) {
+        try {
+            return lookup.unreflectGetter(getField(containingClass, fieldName));
+        } catch (ReflectiveOperationException roe) {
+            throw new RuntimeException("Couldn't get getter MethodHandle for " + fieldName, roe);
+        }
+    }
+
+    @SuppressWarnings("unused")//used by the annotation processor
+    public static MethodHandle getSetterHandle(Class<?> containingClass, String fieldName) {
+        try {
+            return lookup.unreflectSetter(getField(containingClass, fieldName));
+        } catch (ReflectiveOperationException roe) {
+            throw new RuntimeException("Couldn't get setter MethodHandle for " + fieldName, roe);
+        }
+    }
+
+    private static Field getField(Class<?> containingClass, String fieldName) throws NoSuchFieldException {
+        Field field = containingClass.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field;
+    }
+
+    @FunctionalInterface
+    public interface BooleanSetter<H> {
+
+        void accept(H holder, boolean value);
+    }
+
+    /**
+     * Setters are {@code null} for final fields that don't have a setter method, in which case a setter is only created via reflection if the type of field needs one.
+     */
+    sealed interface Accessor {
+    }
+
+    record IntAccessor(ToIntFunction<Object> getter, @Nullable ObjIntConsumer<Object> setter) implements Accessor {
+    }
+
+    record LongAccessor(ToLongFunction<Object> getter, @Nullable ObjLongConsumer<Object> setter) implements Accessor {
+    }
+
+    record DoubleAccessor(ToDoubleFunction<Object> getter, @Nullable ObjDoubleConsumer<Object> setter) implements Accessor {
+    }
+
+    record BooleanAccessor(Predicate<Object> getter, @Nullable BooleanSetter<Object> setter) implements Accessor {
+    }
+
+    record ObjectAccessor(Class<?> type, Function<Object, Object> getter, @Nullable BiConsumer<Object, Object> setter) implements Accessor {
+    }
+}
@@ -0,0 +1,9 @@
+package mekanism.common.inventory.container.sync.dynamic;
+
+public interface IContainerSyncRegistry {
+
+    /**
+     * Register the generated accessors of contained {@link ContainerSync} fields to {@link GeneratedSyncAccessors}
+     */
+    void register();
+}
@@ -16,7 +16,14 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -36,7 +43,17 @@ import mekanism.common.capabilities.heat.BasicHeatCapacitor;
 import mekanism.common.capabilities.merged.MergedTank;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.ISyncableData;
+import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.inventory.container.sync.SyncableDouble;
 import mekanism.common.inventory.container.sync.SyncableEnum;
+import mekanism.common.inventory.container.sync.SyncableInt;
+import mekanism.common.inventory.container.sync.SyncableLong;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.BooleanAccessor;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.BooleanSetter;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.DoubleAccessor;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.IntAccessor;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.LongAccessor;
+import mekanism.common.inventory.container.sync.dynamic.GeneratedSyncAccessors.ObjectAccessor;
 import mekanism.common.lib.MekAnnotationScanner.BaseAnnotationScanner;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.network.to_client.container.property.PropertyType;
@@ -46,6 +63,7 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.IFluidTank;
 import net.neoforged.neoforgespi.language.IModFileInfo;
 import net.neoforged.neoforgespi.language.ModFileScanData.AnnotationData;
+import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.Type;
 
 public class SyncMapper extends BaseAnnotationScanner {
@@ -109,6 +127,7 @@ public class SyncMapper extends BaseAnnotationScanner {
 
     @Override
     protected void collectScanData(Map<String, Class<?>> classNameCache, Map<Class<?>, List<AnnotationData>> knownClasses, Set<IModFileInfo> modFileData) {
+        GeneratedSyncAccessors.load();
         Map<Class<?>, List<PropertyFieldInfo>> rawPropertyMap = new Object2ObjectOpenHashMap<>();
         //Only create the list once for the default fallback
         List<String> fallbackTagsList = Collections.singletonList(DEFAULT_TAG);
@@ -118,45 +137,24 @@ public class SyncMapper extends BaseAnnotationScanner {
             rawPropertyMap.put(annotatedClass, propertyInfo);
             for (AnnotationData data : entry.getValue()) {
                 String fieldName = data.memberName();
-                Field field = getField(annotatedClass, fieldName);
-                if (field == null) {
-                    continue;
-                }
-                String getterName = getAnnotationValue(data, "getter", "");
                 PropertyField newField;
-                Class<?> fieldType = field.getType();
-                SpecialPropertyHandler<?> handler = null;
-                for (SpecialPropertyHandler<?> h : specialProperties) {
-                    if (h.fieldType.isAssignableFrom(fieldType)) {
-                        handler = h;
-                        break;
-                    }
-                }
                 try {
-                    if (handler == null) {
-                        PropertyType type = PropertyType.getFromType(fieldType);
-                        String setterName = getAnnotationValue(data, "setter", "");
-                        if (type != null) {
-                            newField = new PropertyField(new TrackedFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
-                                  LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), type));
-                        } else if (fieldType.isEnum()) {
-                            newField = new PropertyField(new EnumFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
-                                  LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), fieldType));
-                        } else if (fieldType.isArray()) {
-                            Class<?> arrayFieldType = fieldType.getComponentType();
-                            PropertyType arrayType = PropertyType.getFromType(arrayFieldType);
-                            if (arrayType != null) {
-                                newField = new PropertyField(new ArrayFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName), arrayType));
-                            } else {
-                                Mekanism.logger.error("Attempted to sync an invalid array field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
-                                continue;
-                            }
-                        } else {
-                            Mekanism.logger.error("Attempted to sync an invalid field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
+                    GeneratedSyncAccessors.Accessor accessor = GeneratedSyncAccessors.get(annotatedClass, fieldName);
+                    if (accessor != null && hasRequiredSetter(accessor)) {
+                        newField = createGeneratedField(annotatedClass, fieldName, accessor);
+                    } else {
+                        //No accessor was generated for the field, or the generated one is missing a setter that we need, fall back to reflection
+                        Field field = getField(annotatedClass, fieldName);
+                        if (field == null) {
                             continue;
                         }
-                    } else {
-                        newField = createSpecialProperty(handler, field, annotatedClass, getterName);
+                        String getterName = getAnnotationValue(data, "getter", "");
+                        String setterName = getAnnotationValue(data, "setter", "");
+                        newField = createField(annotatedClass, fieldName, field.getType(), LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
+                              () -> LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName));
+                    }
+                    if (newField == null) {
+                        continue;
                     }
                 } catch (Throwable throwable) {
                     Mekanism.logger.error("Failed to create sync data for field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName(), throwable);
@@ -197,10 +195,76 @@ public class SyncMapper extends BaseAnnotationScanner {
         }
     }
 
-    private static <O> PropertyField createSpecialProperty(SpecialPropertyHandler<O> handler, Field field, Class<?> objType, String getterName) throws Throwable {
+    /**
+     * Checks if the generated accessors have a setter in cases where the type of the field needs one to be synced. Setters are not generated for final fields that don't
+     * have a setter method.
+     */
+    private boolean hasRequiredSetter(GeneratedSyncAccessors.Accessor accessor) {
+        return switch (accessor) {
+            case IntAccessor intAccessor -> intAccessor.setter() != null;
+            case LongAccessor longAccessor -> longAccessor.setter() != null;
+            case DoubleAccessor doubleAccessor -> doubleAccessor.setter() != null;
+            case BooleanAccessor booleanAccessor -> booleanAccessor.setter() != null;
+            case ObjectAccessor objectAccessor -> objectAccessor.setter() != null || objectAccessor.type().isArray() || getSpecialHandler(objectAccessor.type()) != null;
+        };
+    }
+
+    /**
+     * Creates the sync data for a field from the accessors that were generated for it at compile time.
+     */
+    @Nullable
+    private PropertyField createGeneratedField(Class<?> annotatedClass, String fieldName, GeneratedSyncAccessors.Accessor accessor) throws Throwable {
+        return switch (accessor) {
+            case IntAccessor intAccessor -> new PropertyField(new IntFieldData(intAccessor.getter(), intAccessor.setter()));
+            case LongAccessor longAccessor -> new PropertyField(new LongFieldData(longAccessor.getter(), longAccessor.setter()));
+            case DoubleAccessor doubleAccessor -> new PropertyField(new DoubleFieldData(doubleAccessor.getter(), doubleAccessor.setter()));
+            case BooleanAccessor booleanAccessor -> new PropertyField(new BooleanFieldData(booleanAccessor.getter(), booleanAccessor.setter()));
+            case ObjectAccessor objectAccessor -> createField(annotatedClass, fieldName, objectAccessor.type(), objectAccessor.getter(), objectAccessor::setter);
+        };
+    }
+
+    @Nullable
+    private SpecialPropertyHandler<?> getSpecialHandler(Class<?> fieldType) {
+        for (SpecialPropertyHandler<?> handler : specialProperties) {
+            if (handler.fieldType.isAssignableFrom(fieldType)) {
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The sync data, or {@code null} if the field is not of a type that can be synced.
+     */
+    @Nullable
+    private PropertyField createField(Class<?> annotatedClass, String fieldName, Class<?> fieldType, Function<Object, Object> getter, SetterFactory setterFactory)
+          throws Throwable {
+        SpecialPropertyHandler<?> handler = getSpecialHandler(fieldType);
+        if (handler != null) {
+            return createSpecialProperty(handler, getter);
+        }
+        PropertyType type = PropertyType.getFromType(fieldType);
+        if (type != null) {
+            return new PropertyField(new TrackedFieldData(getter, setterFactory.create(), type));
+        } else if (fieldType.isEnum()) {
+            return new PropertyField(new EnumFieldData(getter, setterFactory.create(), fieldType));
+        } else if (fieldType.isArray()) {
+            PropertyType arrayType = PropertyType.getFromType(fieldType.getComponentType());
+            if (arrayType != null) {
+                return new PropertyField(new ArrayFieldData(getter, arrayType));
+            }
+            Mekanism.logger.error("Attempted to sync an invalid array field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
+        } else {
+            Mekanism.logger.error("Attempted to sync an invalid field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> PropertyField createSpecialProperty(SpecialPropertyHandler<O> handler, Function<Object, Object> getter) {
         PropertyField ret = new PropertyField();
-        // create a getter for the actual property field itself
-        Function<Object, O> fieldGetter = LambdaMetaFactoryUtil.createGetter(field, objType, getterName);
+        // the getter for the actual property field itself
+        Function<Object, O> fieldGetter = (Function<Object, O>) (Function<Object, ?>) getter;
         for (SpecialPropertyData<O> data : handler.specialData) {
             // create a new tracked field
             TrackedFieldData trackedField = TrackedFieldData.create(data.propertyType, obj -> data.get(fieldGetter.apply(obj)), (obj, val) -> data.set(fieldGetter.apply(obj), val));
@@ -211,6 +275,12 @@ public class SyncMapper extends BaseAnnotationScanner {
         return ret;
     }
 
+    @FunctionalInterface
+    private interface SetterFactory {
+
+        BiConsumer<Object, Object> create() throws Throwable;
+    }
+
     private static class PropertyDataClassCache {
 
         private static final PropertyDataClassCache EMPTY = new PropertyDataClassCache();
@@ -326,6 +396,107 @@ public class SyncMapper extends BaseAnnotationScanner {
         }
     }
 
+    //Primitive versions that sync the value directly from the generated accessors, instead of boxing it every time the container checks for changes
+    protected static class IntFieldData extends TrackedFieldData {
+
+        private final ToIntFunction<Object> intGetter;
+        private final ObjIntConsumer<Object> intSetter;
+
+        private IntFieldData(ToIntFunction<Object> getter, ObjIntConsumer<Object> setter) {
+            super(getter::applyAsInt, (obj, val) -> setter.accept(obj, (int) val), PropertyType.INT);
+            this.intGetter = getter;
+            this.intSetter = setter;
+        }
+
+        @Override
+        protected ISyncableData createSyncableData(Supplier<Object> obj) {
+            return SyncableInt.create(() -> {
+                Object dataObj = obj.get();
+                return dataObj == null ? 0 : intGetter.applyAsInt(dataObj);
+            }, val -> {
+                Object dataObj = obj.get();
+                if (dataObj != null) {
+                    intSetter.accept(dataObj, val);
+                }
+            });
+        }
+    }
+
+    protected static class LongFieldData extends TrackedFieldData {
+
+        private final ToLongFunction<Object> longGetter;
+        private final ObjLongConsumer<Object> longSetter;
+
+        private LongFieldData(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter) {
+            super(getter::applyAsLong, (obj, val) -> setter.accept(obj, (long) val), PropertyType.LONG);
+            this.longGetter = getter;
+            this.longSetter = setter;
+        }
+
+        @Override
+        protected ISyncableData createSyncableData(Supplier<Object> obj) {
+            return SyncableLong.create(() -> {
+                Object dataObj = obj.get();
+                return dataObj == null ? 0 : longGetter.applyAsLong(dataObj);
+            }, val -> {
+                Object dataObj = obj.get();
+                if (dataObj != null) {
+                    longSetter.accept(dataObj, val);
+                }
+            });
+        }
+    }
+
+    protected static class DoubleFieldData extends TrackedFieldData {
+
+        private final ToDoubleFunction<Object> doubleGetter;
+        private final ObjDoubleConsumer<Object> doubleSetter;
+
+        private DoubleFieldData(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter) {
+            super(getter::applyAsDouble, (obj, val) -> setter.accept(obj, (double) val), PropertyType.DOUBLE);
+            this.doubleGetter = getter;
+            this.doubleSetter = setter;
+        }
+
+        @Override
+        protected ISyncableData createSyncableData(Supplier<Object> obj) {
+            return SyncableDouble.create(() -> {
+                Object dataObj = obj.get();
+                return dataObj == null ? 0 : doubleGetter.applyAsDouble(dataObj);
+            }, val -> {
+                Object dataObj = obj.get();
+                if (dataObj != null) {
+                    doubleSetter.accept(dataObj, val);
+                }
+            });
+        }
+    }
+
+    protected static class BooleanFieldData extends TrackedFieldData {
+
+        private final Predicate<Object> booleanGetter;
+        private final BooleanSetter<Object> booleanSetter;
+
+        private BooleanFieldData(Predicate<Object> getter, BooleanSetter<Object> setter) {
+            super(getter::test, (obj, val) -> setter.accept(obj, (boolean) val), PropertyType.BOOLEAN);
+            this.booleanGetter = getter;
+            this.booleanSetter = setter;
+        }
+
+        @Override
+        protected ISyncableData createSyncableData(Supplier<Object> obj) {
+            return SyncableBoolean.create(() -> {
+                Object dataObj = obj.get();
+                return dataObj != null && booleanGetter.test(dataObj);
+            }, val -> {
+                Object dataObj = obj.get();
+                if (dataObj != null) {
+                    booleanSetter.accept(dataObj, val);
+                }
+            });
+        }
+    }
+
     //Assumes length of array is constant regardless of holder implementation
     protected static class ArrayFieldData extends TrackedFieldData {
 
@@ -0,0 +1,123 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of block positions that stores the positions packed into longs via {@link BlockPos#asLong()}, instead of keeping a {@link BlockPos} object around for each
+ * position.
+ *
+ * @implNote Iterating the set creates a new {@link BlockPos} for each position, so where possible prefer {@link #contains(long)} and {@link #longIterator()}.
+ */
+public class BlockPosSet extends AbstractSet<BlockPos> {
+
+    private final LongOpenHashSet positions;
+
+    public BlockPosSet() {
+        positions = new LongOpenHashSet();
+    }
+
+    public BlockPosSet(int expected) {
+        positions = new LongOpenHashSet(expected);
+    }
+
+    @Override
+    public boolean add(BlockPos pos) {
+        return positions.add(pos.asLong());
+    }
+
+    public boolean add(long pos) {
+        return positions.add(pos);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof BlockPos pos && positions.contains(pos.asLong());
+    }
+
+    public boolean contains(long pos) {
+        return positions.contains(pos);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof BlockPos pos && positions.remove(pos.asLong());
+    }
+
+    public boolean remove(long pos) {
+        return positions.remove(pos);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Reduces the backing set to the smallest size that can hold the current positions. Useful for sets that are done being built and will be kept around.
+     */
+    public void trim() {
+        positions.trim();
+    }
+
+    public LongIterator longIterator() {
+        return positions.iterator();
+    }
+
+    @NotNull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        LongIterator iterator = positions.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BlockPos next() {
+                return BlockPos.of(iterator.nextLong());
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof BlockPosSet other) {
+            return positions.equals(other.positions);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        //Match the hash code of a set of block positions without having to create each position
+        int hash = 0;
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            hash += (BlockPos.getY(pos) + BlockPos.getZ(pos) * 31) * 31 + BlockPos.getX(pos);
+        }
+        return hash;
+    }
+}
@@ -75,6 +75,14 @@ public class LRU<T> extends AbstractCollection<T> {
         return size;
     }
 
+    @Override
+    public void clear() {
+        head.next = tail;
+        tail.prev = head;
+        size = 0;
+        lookupMap.clear();
+    }
+
     public void reverseIterate(Consumer<T> callback) {
         LRUEntry<T> ptr = tail.prev;
         while (ptr != head) {
@@ -108,6 +116,21 @@ public class LRU<T> extends AbstractCollection<T> {
         return head.next.value;
     }
 
+    /**
+     * Removes the least recently used element, like {@link java.util.Deque#pollLast()}
+     *
+     * @return the removed element, or null if this LRU is empty
+     */
+    @Nullable
+    public T pollLast() {
+        LRUEntry<T> entry = tail.prev;
+        if (entry == head) {
+            return null;
+        }
+        removeEntry(entry);
+        return entry.value;
+    }
+
     private static class LRUEntry<T> {
 
         private final T value;
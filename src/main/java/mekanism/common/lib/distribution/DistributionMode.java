@@ -0,0 +1,18 @@
+package mekanism.common.lib.distribution;
+
+/**
+ * Strategies for splitting an amount between the handlers of a {@link Target}.
+ */
+public enum DistributionMode {
+    /**
+     * Offers each handler an even share, and then keeps rechecking the handlers that wanted more than their share each time the share increases because a handler
+     * needed less than it was offered.
+     */
+    ITERATIVE,
+    /**
+     * Sorts the handlers by how much they want once, and then does a single pass from smallest to largest demand, giving each handler what it wants until the remaining
+     * handlers all want more than an even share of what is left. Produces the same fair split as {@link #ITERATIVE} in {@code O(n log n)} time instead of repeatedly
+     * rechecking the handlers that want more than their share, which makes it better suited for networks with large numbers of acceptors.
+     */
+    SORTED
+}
@@ -11,8 +11,10 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
         this.amountToSplit = amountToSplit.copy();
-        amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
+        //Note: We keep both the per target amount and the amount sent so far as mutable floating longs so that we can update them in place
+        // rather than creating new objects every time a target accepts some energy
+        amountPerTarget = toSplitAmong == 0 ? FloatingLong.create(0) : amountToSplit.divide(toSplitAmong);
+        sentSoFar = FloatingLong.create(0);
     }
 
     @Override
@@ -38,9 +40,10 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (recalculate && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            long lastValue = amountPerTarget.getValue();
+            short lastDecimal = amountPerTarget.getDecimal();
+            amountPerTarget = amountPerTarget.set(amountToSplit).divideEquals(toSplitAmong);
+            if (!amountPerChanged && (amountPerTarget.getValue() != lastValue || amountPerTarget.getDecimal() != lastDecimal)) {
                 amountPerChanged = true;
             }
         }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Keeps track of a target for emitting from various networks.
@@ -156,6 +157,40 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         }
     }
 
+    /**
+     * Calculates how much each handler can take of toSend, and then sorts the handlers by how much they need so that the handlers that need less than an even split can be
+     * given what they need in a single pass. Afterwards, all the handlers that still need more than an even split of what is left are added to the needed collection so
+     * that the rest can be split between them via {@link #sendRemainingSplit(SplitInfo)}.
+     *
+     * @param toSend    The total amount getting sent.
+     * @param splitInfo Information about current overall split.
+     *
+     * @implNote As each handler that is given what it needs takes at most an even share, the share for the remaining handlers can only ever go up. This means that once
+     * we find a handler that needs more than the share, all the handlers after it will as well.
+     */
+    public void sendSorted(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
+        List<HandlerType<HANDLER, TYPE>> sorted = new ArrayList<>(handlers.size());
+        for (HANDLER entry : handlers) {
+            TYPE amountNeeded = simulate(entry, toSend);
+            if (splitInfo.isZero(amountNeeded)) {
+                //Mark handlers that don't need anything as having been sent what they need, so that they don't take up a share of the split
+                splitInfo.send(amountNeeded);
+            } else {
+                sorted.add(new HandlerType<>(entry, amountNeeded));
+            }
+        }
+        sorted.sort((a, b) -> a.amount().compareTo(b.amount()));
+        int index = 0;
+        for (int size = sorted.size(); index < size; index++) {
+            HandlerType<HANDLER, TYPE> needInfo = sorted.get(index);
+            if (needInfo.amount().compareTo(splitInfo.getShareAmount()) > 0) {
+                break;
+            }
+            acceptAmount(needInfo.handler(), splitInfo, needInfo.amount());
+        }
+        needed.addAll(sorted.subList(index, sorted.size()));
+    }
+
     /**
      * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
      *
@@ -0,0 +1,137 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Arrays;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.Palette;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copy of the block states of the chunk sections that overlap a region, so that the states can be read from off the main thread, and so that we can cheaply check if
+ * anything in the region changed since the copy was made.
+ *
+ * @apiNote Must be created on the main thread.
+ */
+public class BlockStateSnapshot {
+
+    private final Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+    /**
+     * Sections that only contain air, which we keep track of separately so that we don't have to copy them.
+     */
+    private final LongSet airSections = new LongOpenHashSet();
+
+    /**
+     * @param world    World to copy the block states of.
+     * @param chunkMap Cached chunk map.
+     * @param min      Min position of the region to copy.
+     * @param max      Max position of the region to copy.
+     */
+    public BlockStateSnapshot(Level world, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos min, BlockPos max) {
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int chunkX = SectionPos.blockToSectionCoord(min.getX()); chunkX <= SectionPos.blockToSectionCoord(max.getX()); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(min.getZ()); chunkZ <= SectionPos.blockToSectionCoord(max.getZ()); chunkZ++) {
+                mutable.set(SectionPos.sectionToBlockCoord(chunkX), min.getY(), SectionPos.sectionToBlockCoord(chunkZ));
+                ChunkAccess chunk = WorldUtils.getChunkForPos(world, chunkMap, mutable);
+                if (chunk == null) {
+                    //Not loaded or out of bounds, leave it missing from the snapshot so that lookups in it fail
+                    continue;
+                }
+                for (int sectionY = SectionPos.blockToSectionCoord(min.getY()); sectionY <= SectionPos.blockToSectionCoord(max.getY()); sectionY++) {
+                    int index = chunk.getSectionIndexFromSectionY(sectionY);
+                    if (index >= 0 && index < chunk.getSectionsCount()) {
+                        LevelChunkSection section = chunk.getSection(index);
+                        long key = SectionPos.asLong(chunkX, sectionY, chunkZ);
+                        if (section.hasOnlyAir()) {
+                            airSections.add(key);
+                        } else {
+                            sections.put(key, section.getStates().copy());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if any of the block states in the snapshot have changed since it was taken, by comparing the copied chunk sections to the current ones. This is a lot
+     * cheaper than looking up and comparing the individual block states, as we only have to compare the packed palette indices of each section.
+     *
+     * @param world    World the snapshot was taken of.
+     * @param chunkMap Cached chunk map.
+     *
+     * @return {@code true} if any of the sections changed, or are no longer loaded.
+     *
+     * @apiNote Must be called on the main thread.
+     */
+    public boolean hasChanged(Level world, Long2ObjectMap<ChunkAccess> chunkMap) {
+        for (Long2ObjectMap.Entry<PalettedContainer<BlockState>> entry : sections.long2ObjectEntrySet()) {
+            LevelChunkSection section = getSection(world, chunkMap, entry.getLongKey());
+            if (section == null || !sameStates(section.getStates(), entry.getValue())) {
+                return true;
+            }
+        }
+        for (LongIterator iterator = airSections.iterator(); iterator.hasNext(); ) {
+            LevelChunkSection section = getSection(world, chunkMap, iterator.nextLong());
+            if (section == null || !section.hasOnlyAir()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static LevelChunkSection getSection(Level world, Long2ObjectMap<ChunkAccess> chunkMap, long key) {
+        ChunkAccess chunk = WorldUtils.getChunkForPos(world, chunkMap, SectionPos.of(key).origin());
+        if (chunk == null) {
+            return null;
+        }
+        int index = chunk.getSectionIndexFromSectionY(SectionPos.y(key));
+        return index >= 0 && index < chunk.getSectionsCount() ? chunk.getSection(index) : null;
+    }
+
+    private static boolean sameStates(PalettedContainer<BlockState> current, PalettedContainer<BlockState> copy) {
+        PalettedContainer.Data<BlockState> currentData = current.data;
+        PalettedContainer.Data<BlockState> copyData = copy.data;
+        Palette<BlockState> currentPalette = currentData.palette();
+        Palette<BlockState> copyPalette = copyData.palette();
+        //Note: Copying a container that uses the global palette keeps the same palette instance
+        if (currentPalette != copyPalette) {
+            int size = currentPalette.getSize();
+            if (size != copyPalette.getSize()) {
+                //If the palette changed size, the section may still contain the same states, but we just treat it as having changed
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (currentPalette.valueFor(i) != copyPalette.valueFor(i)) {
+                    return false;
+                }
+            }
+        }
+        return Arrays.equals(currentData.storage().getRaw(), copyData.storage().getRaw());
+    }
+
+    /**
+     * @return The block state at the given position when the snapshot was taken, or {@code null} if the position wasn't loaded or is outside the world.
+     */
+    @Nullable
+    public BlockState getBlockState(BlockPos pos) {
+        long key = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+        PalettedContainer<BlockState> section = sections.get(key);
+        if (section == null) {
+            return airSections.contains(key) ? Blocks.AIR.defaultBlockState() : null;
+        }
+        return section.get(SectionPos.sectionRelative(pos.getX()), SectionPos.sectionRelative(pos.getY()), SectionPos.sectionRelative(pos.getZ()));
+    }
+}
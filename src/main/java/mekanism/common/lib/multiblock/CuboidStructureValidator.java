@@ -1,6 +1,8 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
@@ -18,6 +20,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class CuboidStructureValidator<T extends MultiblockData> implements IStructureValidator<T> {
 
@@ -75,8 +78,16 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         }
         BlockState state = optionalState.get();
         StructureRequirement requirement = getStructureRequirement(pos);
-        if (requirement.isCasing()) {
-            CasingType type = getCasingType(state);
+        return validateNode(ctx, chunkMap, pos, state, requirement, requirement.isCasing() ? getCasingType(state) : null);
+    }
+
+    /**
+     * @param pos  Mutable BlockPos
+     * @param type Casing type of the state, or {@code null} if the requirement isn't a casing.
+     */
+    private FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos, BlockState state,
+          StructureRequirement requirement, @Nullable CasingType type) {
+        if (type != null) {
             FormationResult ret = validateFrame(ctx, pos, state, type, requirement.needsFrame());
             if ((requirement != StructureRequirement.IGNORED || ret.isNoIgnore()) && !ret.isFormed()) {
                 return ret;
@@ -84,8 +95,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
         } else if (!state.isAir()) {
-            //Make sure the position is immutable before we store it
-            ctx.internalLocations.add(pos.immutable());
+            ctx.internalLocations.add(pos.asLong());
         }
         return FormationResult.SUCCESS;
     }
@@ -139,6 +149,61 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    /**
+     * Runs the checks of {@link #validate(FormationProtocol, Long2ObjectMap)} that only depend on the block states of the structure against a snapshot of the world.
+     * This is safe to call off the main thread as long as {@link #getStructureRequirement(BlockPos)} and {@link #getCasingType(BlockState)} only depend on the position
+     * and state they are given.
+     *
+     * @param snapshot Snapshot containing the block states of the cuboid.
+     *
+     * @return The casings and non-air inner positions that still need validating on the main thread via {@link #validateScan(FormationProtocol, Long2ObjectMap, Scan)}.
+     */
+    Scan scan(BlockStateSnapshot snapshot) {
+        BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        List<ScannedNode> nodes = new ArrayList<>();
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    mutablePos.set(x, y, z);
+                    BlockState state = snapshot.getBlockState(mutablePos);
+                    if (state == null) {
+                        //If the position is not in a loaded chunk or out of bounds of the world, fail
+                        return new Scan(FormationResult.FAIL, List.of());
+                    }
+                    StructureRequirement requirement = getStructureRequirement(mutablePos);
+                    if (requirement.isCasing()) {
+                        nodes.add(new ScannedNode(mutablePos.asLong(), state, requirement, getCasingType(state)));
+                    } else if (!state.isAir()) {
+                        //Note: Air is always valid inside the structure, so we only need to validate inner positions that aren't air
+                        nodes.add(new ScannedNode(mutablePos.asLong(), state, requirement, null));
+                    }
+                }
+            }
+        }
+        return new Scan(FormationResult.SUCCESS, nodes);
+    }
+
+    /**
+     * Finishes validating a structure that was scanned via {@link #scan(BlockStateSnapshot)}, by running the checks that depend on the tiles in the world.
+     *
+     * @apiNote Only call this if none of the blocks in the structure changed since the snapshot was taken, see {@link BlockStateSnapshot#hasChanged(Level, Long2ObjectMap)}.
+     */
+    FormationResult validateScan(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, Scan scan) {
+        if (!scan.result().isFormed()) {
+            return scan.result();
+        }
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        for (ScannedNode node : scan.nodes()) {
+            mutablePos.set(node.pos());
+            FormationResult ret = validateNode(ctx, chunkMap, mutablePos, node.state(), node.requirement(), node.type());
+            if (!ret.isFormed()) {
+                return ret;
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
     @Override
     public FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap) {
         return FormationResult.SUCCESS;
@@ -170,4 +235,16 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     public void loadCuboid(VoxelCuboid cuboid) {
         this.cuboid = cuboid;
     }
+
+    /**
+     * @param type Casing type of the state, or {@code null} if the position is inside the structure.
+     */
+    record ScannedNode(long pos, BlockState state, StructureRequirement requirement, @Nullable CasingType type) {
+    }
+
+    /**
+     * Result of scanning the block states of a structure off the main thread.
+     */
+    record Scan(FormationResult result, List<ScannedNode> nodes) {
+    }
 }
@@ -2,22 +2,31 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.collection.BlockPosSet;
+import mekanism.common.lib.multiblock.CuboidStructureValidator.Scan;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
@@ -28,6 +37,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
@@ -40,8 +50,8 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public final BlockPosSet locations = new BlockPosSet();
+    public final BlockPosSet internalLocations = new BlockPosSet();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Map<UUID, MultiblockCache<T>> idsFound = new HashMap<>();
 
@@ -51,18 +61,30 @@ public class FormationProtocol<T extends MultiblockData> {
         manager = tile.getManager();
     }
 
-    private StructureResult<T> buildStructure(IStructureValidator<T> validator) {
+    /**
+     * @param scan Result of scanning the structure off the main thread, or {@code null} to validate the entire structure on the current thread.
+     */
+    private StructureResult<T> buildStructure(IStructureValidator<T> validator, @Nullable Scan scan) {
         T structure = pointer.createMultiblock();
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
+        FormationResult result;
+        if (scan == null) {
+            result = validator.validate(this, chunkMap);
+        } else {
+            //Note: We only scan structures that have a cuboid validator
+            result = ((CuboidStructureValidator<T>) validator).validateScan(this, chunkMap, scan);
+        }
         if (!result.isFormed()) {
             return fail(result);
         }
 
+        //Shrink the sets as they will be kept around for as long as the multiblock is formed
+        locations.trim();
+        internalLocations.trim();
         structure.locations = locations;
         structure.internalLocations = internalLocations;
         structure.valves = valves;
@@ -80,7 +102,33 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!validator.precheck()) {
             return FormationResult.FAIL;
         }
-        StructureResult<T> result = buildStructure(validator);
+        return applyResult(world, buildStructure(validator, null));
+    }
+
+    /**
+     * Starts validating the block states of the structure off the main thread. The rest of the protocol gets run on the main thread once the scan is done via
+     * {@link AsyncFormation#finish()}.
+     *
+     * @return The pending formation, or {@code null} if the structure can't be validated off the main thread, in which case {@link #doUpdate()} should be used instead.
+     */
+    @Nullable
+    public AsyncFormation startAsyncUpdate() {
+        IStructureValidator<T> validator = manager.createValidator();
+        if (!(validator instanceof CuboidStructureValidator<T> cuboidValidator)) {
+            return null;
+        }
+        Level world = pointer.getLevel();
+        validator.init(world, manager, structure);
+        if (!validator.precheck()) {
+            return new AsyncFormation(cuboidValidator, null, CompletableFuture.completedFuture(null));
+        }
+        //Copy the chunk sections the structure is in while we are still on the main thread
+        BlockStateSnapshot snapshot = new BlockStateSnapshot(world, new Long2ObjectOpenHashMap<>(), cuboidValidator.cuboid.getMinPos(),
+              cuboidValidator.cuboid.getMaxPos());
+        return new AsyncFormation(cuboidValidator, snapshot, CompletableFuture.supplyAsync(() -> cuboidValidator.scan(snapshot), Util.backgroundExecutor()));
+    }
+
+    private FormationResult applyResult(Level world, StructureResult<T> result) {
         T structureFound = result.structureFound;
 
         BlockPos pointerPos = pointer.getBlockPos();
@@ -153,6 +201,56 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.result();
     }
 
+    /**
+     * Structure that is being validated off the main thread.
+     */
+    public class AsyncFormation {
+
+        private final CuboidStructureValidator<T> validator;
+        @Nullable
+        private final BlockStateSnapshot snapshot;
+        /**
+         * The result of scanning the structure, or {@code null} if the structure failed the precheck.
+         */
+        private final CompletableFuture<Scan> scan;
+
+        private AsyncFormation(CuboidStructureValidator<T> validator, @Nullable BlockStateSnapshot snapshot, CompletableFuture<Scan> scan) {
+            this.validator = validator;
+            this.snapshot = snapshot;
+            this.scan = scan;
+        }
+
+        public boolean isDone() {
+            return scan.isDone();
+        }
+
+        public void cancel() {
+            scan.cancel(false);
+        }
+
+        /**
+         * Finishes forming the structure. This must be called on the main thread after the scan is done.
+         */
+        public FormationResult finish() {
+            Scan result;
+            try {
+                result = scan.join();
+            } catch (CancellationException | CompletionException e) {
+                Mekanism.logger.error("Failed to scan multiblock structure off thread, validating it on the main thread instead.", e);
+                return doUpdate();
+            }
+            if (result == null || snapshot == null) {
+                return FormationResult.FAIL;
+            }
+            Level world = pointer.getLevel();
+            if (snapshot.hasChanged(world, new Long2ObjectOpenHashMap<>())) {
+                //Blocks in the structure changed since we scanned it, validate it again using the current state of the world
+                return doUpdate();
+            }
+            return applyResult(world, buildStructure(validator, result));
+        }
+    }
+
     protected static Component text(BlockPos pos) {
         return MekanismLang.GENERIC_PARENTHESIS.translate(MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()));
     }
@@ -172,22 +270,25 @@ public class FormationProtocol<T extends MultiblockData> {
             return 0;
         }
 
+        BlockPos.MutableBlockPos ptr = new BlockPos.MutableBlockPos();
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        Queue<BlockPos> openSet = new LinkedList<>();
-        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
-        openSet.add(start);
-        traversed.add(start);
+        //Note: We keep track of the positions packed as longs to avoid having to create a block pos for each position we traverse
+        LongPriorityQueue openSet = new LongArrayFIFOQueue();
+        LongSet traversed = new LongOpenHashSet();
+        long startPos = start.asLong();
+        openSet.enqueue(startPos);
+        traversed.add(startPos);
         while (!openSet.isEmpty()) {
-            BlockPos ptr = openSet.poll();
+            ptr.set(openSet.dequeueLong());
             int traversedSize = traversed.size();
             if (traversedSize >= maxCount) {
                 return traversedSize;
             }
             for (Direction side : EnumUtils.DIRECTIONS) {
                 mutable.setWithOffset(ptr, side);
-                if (!traversed.contains(mutable) && checker.check(level, chunkMap, start, node, mutable)) {
-                    BlockPos offset = mutable.immutable();
-                    openSet.add(offset);
+                long offset = mutable.asLong();
+                if (!traversed.contains(offset) && checker.check(level, chunkMap, start, node, mutable)) {
+                    openSet.enqueue(offset);
                     traversed.add(offset);
                 }
             }
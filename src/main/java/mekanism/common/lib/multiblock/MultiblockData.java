@@ -36,12 +36,14 @@ import mekanism.common.capabilities.heat.ITileHeatHandler;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.energy.BlockEnergyCapabilityCache;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.collection.BlockPosSet;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.multiblock.FormationProtocol.StructureRequirement;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.CacheSubstance;
+import mekanism.common.lib.transmitter.NetworkTickScheduler;
 import mekanism.common.tile.prefab.TileEntityMultiblock;
 import mekanism.common.tile.prefab.TileEntityStructuralMultiblock;
 import mekanism.common.util.EnumUtils;
@@ -61,7 +63,7 @@ import org.jetbrains.annotations.Nullable;
 public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler, IMekanismStrictEnergyHandler, ITileHeatHandler, IGasTracker, IInfusionTracker,
       IPigmentTracker, ISlurryTracker {
 
-    public Set<BlockPos> locations = new ObjectOpenHashSet<>();
+    public BlockPosSet locations = new BlockPosSet();
     /**
      * @apiNote This set is only used for purposes of caching all known valid inner blocks of a multiblock structure, for use in checking if we need to revalidate the
      * multiblock when something changes, cases we want to skip are inner nodes just changing state (for example, super heating elements being activated) This set is not
@@ -69,7 +71,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
      * accurate of checks that get done against this as there is no way to tell if the state actually changed or if the block changed entirely, but assuming no one is
      * replacing the blocks inside a multiblock (which is unsupported) it will handle it fine, and we can easily special-case it becoming air as having been "broken"
      */
-    public Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public BlockPosSet internalLocations = new BlockPosSet();
     public Set<ValveData> valves = new ObjectOpenHashSet<>();
 
     @ContainerSync(getter = "getVolume", setter = "setVolume")
@@ -131,7 +133,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         return () -> {
             contentsListener.onContentsChanged();
             if (!isRemote()) {
-                markDirtyComparator(getLevel());
+                NetworkTickScheduler.runOnServerThread(this, data -> data.markDirtyComparator(data.getLevel()));
             }
         };
     }
@@ -355,6 +357,13 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
             if (relativeLocation == CuboidRelative.INSIDE) {
                 return true;
             } else if (relativeLocation.isWall()) {
+                //Casings are never inner positions, and known inner blocks always are, so check those before falling back to asking the validator
+                long packedPos = pos.asLong();
+                if (locations.contains(packedPos)) {
+                    return false;
+                } else if (internalLocations.contains(packedPos)) {
+                    return true;
+                }
                 //If we are in the wall check if we are really an inner position. For example evap towers
                 MultiblockManager<T> manager = (MultiblockManager<T>) structure.getManager();
                 if (manager != null) {
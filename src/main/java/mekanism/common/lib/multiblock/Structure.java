@@ -5,13 +5,13 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectRBTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.ToIntFunction;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -22,12 +22,13 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
     public static final Structure INVALID = new Structure();
 
-    private final Map<BlockPos, IMultiblockBase> nodes = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<IMultiblockBase> nodes = new Long2ObjectOpenHashMap<>();
 
     private final Map<Axis, Int2ObjectSortedMap<VoxelPlane>> minorPlaneMap = new EnumMap<>(Axis.class);
     private final Map<Axis, Int2ObjectSortedMap<VoxelPlane>> planeMap = new EnumMap<>(Axis.class);
@@ -39,6 +40,11 @@ public class Structure {
 
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
+    /**
+     * Formation that is being validated off the main thread, if any.
+     */
+    @Nullable
+    private FormationProtocol<?>.AsyncFormation pendingFormation;
 
     private Structure() {
     }
@@ -50,7 +56,7 @@ public class Structure {
 
     private void init(IMultiblockBase node) {
         BlockPos pos = node.getBlockPos();
-        nodes.put(pos, node);
+        nodes.put(pos.asLong(), node);
         for (Axis axis : Axis.AXES) {
             getMinorAxisMap(axis).put(axis.getCoord(pos), new VoxelPlane(axis, pos, node instanceof IMultiblock));
         }
@@ -83,7 +89,7 @@ public class Structure {
     }
 
     public IMultiblockBase getTile(BlockPos pos) {
-        return nodes.get(pos);
+        return nodes.get(pos.asLong());
     }
 
     public Int2ObjectSortedMap<VoxelPlane> getMinorAxisMap(Axis axis) {
@@ -97,6 +103,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        cancelPendingFormation();
         if (invalidate) {
             invalidate(world);
         } else {
@@ -109,20 +116,53 @@ public class Structure {
         updateTimestamp = tile.getLevel().getGameTime() - 1;
         didUpdate = false;
         invalidate(tile.getLevel());
-        tick(tile, tryValidate);
+        tick(tile, tryValidate, false);
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
+        tick(tile, tryValidate, MekanismConfig.general.asyncMultiblockFormation.get());
+    }
+
+    private <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate, boolean async) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            if (!async || !startAsyncUpdate()) {
+                runUpdate(tile);
+            }
+        } else if (pendingFormation != null && pendingFormation.isDone()) {
+            FormationProtocol<?>.AsyncFormation formation = pendingFormation;
+            pendingFormation = null;
+            //Make sure nothing formed the structure while we were waiting on the scan
+            if (getController() != null && multiblockData == null) {
+                formation.finish();
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
         }
     }
 
+    /**
+     * @return {@code true} if the structure is being validated off the main thread, {@code false} if it needs to be validated via {@link #runUpdate(BlockEntity)}.
+     */
+    private boolean startAsyncUpdate() {
+        if (getController() != null && multiblockData == null) {
+            pendingFormation = getController().createFormationProtocol().startAsyncUpdate();
+            return pendingFormation != null;
+        }
+        return false;
+    }
+
+    private void cancelPendingFormation() {
+        if (pendingFormation != null) {
+            pendingFormation.cancel();
+            pendingFormation = null;
+        }
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
+        //Validating the structure directly supersedes any validation that is happening off the main thread
+        cancelPendingFormation();
         if (getController() != null && multiblockData == null) {
             return getController().createFormationProtocol().doUpdate();
         }
@@ -137,11 +177,13 @@ public class Structure {
                 // if our structure's controller is only the controller because of lack of a better and more proper one
                 controller = s.getController();
             }
+            //The other structure no longer exists on its own, so it won't be able to form
+            s.cancelPendingFormation();
             //Merge nodes, and update their structure to point to our structure
             MultiblockManager<?> manager = getManager();
-            for (Entry<BlockPos, IMultiblockBase> e : s.nodes.entrySet()) {
+            for (Long2ObjectMap.Entry<IMultiblockBase> e : s.nodes.long2ObjectEntrySet()) {
                 IMultiblockBase v = e.getValue();
-                nodes.put(e.getKey(), v);
+                nodes.put(e.getLongKey(), v);
                 v.setStructure(manager, this);
             }
             //Iterate through the over the other structure's minor plane map and merge
@@ -210,6 +252,7 @@ public class Structure {
     }
 
     public void invalidate(Level world) {
+        cancelPendingFormation();
         removeMultiblock(world);
         valid = false;
     }
@@ -222,7 +265,7 @@ public class Structure {
     }
 
     public boolean contains(BlockPos pos) {
-        return nodes.containsKey(pos);
+        return nodes.containsKey(pos.asLong());
     }
 
     public int size() {
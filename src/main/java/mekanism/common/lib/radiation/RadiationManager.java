@@ -3,9 +3,10 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -56,7 +57,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -65,6 +65,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
@@ -107,15 +108,16 @@ public class RadiationManager implements IRadiationManager {
     }
 
     private static final String DATA_HANDLER_NAME = "radiation_manager";
-    private static final RandomSource RAND = RandomSource.create();
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
 
     private boolean loaded;
+    private int decaySlot;
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -189,6 +191,7 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            sourceIndex.removeChunk(chunk.dimension, chunk.toLong());
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -199,6 +202,7 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(pos);
         if (radiationTable.contains(chunk, pos)) {
             radiationTable.remove(chunk, pos);
+            sourceIndex.remove(pos);
             markDirty();
             updateClientRadiationForAll(pos.dimension());
         }
@@ -223,30 +227,9 @@ public class RadiationManager implements IRadiationManager {
         if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        //Note: We only compute exposure for sources that are within the radius, and the index caches which chunks are in range
+        // and the levels it calculated until a source in range changes
+        return sourceIndex.getLevelAndMaxMagnitude(pos, MekanismConfig.general.radiationChunkCheckRadius.get());
     }
 
     @Override
@@ -254,12 +237,12 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
-        RadiationSource src = radiationSourceMap.get(pos);
+        RadiationSource src = sourceIndex.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            addSource(new RadiationSource(pos, magnitude));
         } else {
             src.radiate(magnitude);
+            sourceIndex.onMagnitudeChanged(src);
         }
         markDirty();
         //Update radiation levels immediately
@@ -316,18 +299,20 @@ public class RadiationManager implements IRadiationManager {
         markDirty();
     }
 
+    private void addSource(RadiationSource source) {
+        radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+        sourceIndex.add(source);
+    }
+
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -478,20 +463,41 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled() || radiationTable.isEmpty()) {
             return;
         }
-        // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
-                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+        // each tick we decay the sources in a different slot of chunks, so that each source decays once per second
+        // and the work is spread out across ticks instead of all happening at once
+        decaySlot = (decaySlot + 1) % RadiationSourceIndex.DECAY_SLOTS;
+        // remove if source gets too low
+        Map<ResourceKey<Level>, LongSet> changedChunks = sourceIndex.decay(decaySlot, source -> radiationTable.remove(new Chunk3D(source.getPos()), source.getPos()));
+        if (!changedChunks.isEmpty()) {
+            markDirty();
+            //Update radiation levels for any players that are in range of a chunk that changed
+            updateClientRadiationNear(changedChunks);
+        }
+    }
+
+    private void updateClientRadiationNear(Map<ResourceKey<Level>, LongSet> changedChunks) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                LongSet changed = changedChunks.get(player.level().dimension());
+                if (changed != null && isInRange(player.chunkPosition(), changed, radius)) {
+                    updateClientRadiation(player);
+                }
             }
         }
     }
 
+    private static boolean isInRange(ChunkPos center, LongSet chunks, int radius) {
+        for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+            long chunk = iterator.nextLong();
+            if (Math.abs(ChunkPos.getX(chunk) - center.x) <= radius && Math.abs(ChunkPos.getZ(chunk) - center.z) <= radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -509,6 +515,7 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -535,7 +542,7 @@ public class RadiationManager implements IRadiationManager {
 
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
 
-        private static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
+        static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
     }
 
     public enum RadiationScale {
@@ -653,7 +660,7 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.addSource(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -0,0 +1,382 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spatial index of the radiation sources in each dimension, grouped by the chunk they are in. For each chunk that radiation levels get looked up in, the positions and
+ * magnitudes of the sources that are in range are cached, so that repeated lookups only have to gather the sources again when a source that is in range has been added,
+ * removed, or had its magnitude change. Cached chunks that haven't been looked up in since the previous full decay cycle get evicted.
+ * <br>
+ * To spread the cost of decaying sources across ticks, each chunk is assigned to one of {@link #DECAY_SLOTS} slots, and each tick only the sources in a single slot are
+ * decayed.
+ */
+@NothingNullByDefault
+class RadiationSourceIndex {
+
+    /**
+     * Number of slots chunks are spread across for decaying, so that each source decays roughly once per second.
+     */
+    static final int DECAY_SLOTS = SharedConstants.TICKS_PER_SECOND;
+
+    private final Map<ResourceKey<Level>, DimensionSources> dimensions = new Object2ObjectOpenHashMap<>();
+
+    public boolean isEmpty() {
+        return dimensions.isEmpty();
+    }
+
+    @Nullable
+    public RadiationSource get(GlobalPos pos) {
+        DimensionSources dimension = dimensions.get(pos.dimension());
+        if (dimension != null) {
+            ChunkSources chunk = dimension.chunks.get(ChunkPos.asLong(pos.pos()));
+            if (chunk != null) {
+                for (RadiationSource source : chunk.sources) {
+                    if (source.getPos().equals(pos)) {
+                        return source;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    public void add(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        dimensions.computeIfAbsent(pos.dimension(), dim -> new DimensionSources()).add(ChunkPos.asLong(pos.pos()), source);
+    }
+
+    /**
+     * Marks that the magnitude of the given source changed, so that any levels that were calculated using it get recalculated.
+     */
+    public void onMagnitudeChanged(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        DimensionSources dimension = dimensions.get(pos.dimension());
+        if (dimension != null) {
+            ChunkSources chunk = dimension.chunks.get(ChunkPos.asLong(pos.pos()));
+            if (chunk != null) {
+                chunk.version++;
+            }
+        }
+    }
+
+    public void remove(GlobalPos pos) {
+        DimensionSources dimension = dimensions.get(pos.dimension());
+        if (dimension != null) {
+            long chunkKey = ChunkPos.asLong(pos.pos());
+            ChunkSources chunk = dimension.chunks.get(chunkKey);
+            if (chunk != null && chunk.sources.removeIf(source -> source.getPos().equals(pos))) {
+                chunk.version++;
+                if (chunk.sources.isEmpty()) {
+                    dimension.removeChunk(chunkKey);
+                    if (dimension.chunks.isEmpty()) {
+                        dimensions.remove(pos.dimension());
+                    }
+                }
+            }
+        }
+    }
+
+    public void removeChunk(ResourceKey<Level> dimensionKey, long chunkKey) {
+        DimensionSources dimension = dimensions.get(dimensionKey);
+        if (dimension != null && dimension.removeChunk(chunkKey) && dimension.chunks.isEmpty()) {
+            dimensions.remove(dimensionKey);
+        }
+    }
+
+    /**
+     * Decays the sources in the chunks assigned to the given slot, removing any that have become too weak.
+     *
+     * @param slot     Slot to decay, between zero and {@link #DECAY_SLOTS}.
+     * @param onRemove Called for each source that was removed.
+     *
+     * @return The chunks in each dimension that had sources change or be removed.
+     */
+    public Map<ResourceKey<Level>, LongSet> decay(int slot, Consumer<RadiationSource> onRemove) {
+        Map<ResourceKey<Level>, LongSet> changed = new Object2ObjectOpenHashMap<>();
+        for (Iterator<Map.Entry<ResourceKey<Level>, DimensionSources>> dimensionIterator = dimensions.entrySet().iterator(); dimensionIterator.hasNext(); ) {
+            Map.Entry<ResourceKey<Level>, DimensionSources> entry = dimensionIterator.next();
+            DimensionSources dimension = entry.getValue();
+            if (slot == 0) {
+                //Once per decay cycle, stop caching the chunks that nothing has looked up the radiation level in since the last cycle
+                dimension.evictUnusedNeighbourhoods();
+            }
+            LongSet slotChunks = dimension.decaySlots[slot];
+            if (slotChunks.isEmpty()) {
+                continue;
+            }
+            LongSet changedChunks = new LongOpenHashSet();
+            LongList emptied = new LongArrayList();
+            for (LongIterator chunkIterator = slotChunks.iterator(); chunkIterator.hasNext(); ) {
+                long chunkKey = chunkIterator.nextLong();
+                ChunkSources chunk = dimension.chunks.get(chunkKey);
+                boolean chunkChanged = false;
+                for (Iterator<RadiationSource> iterator = chunk.sources.iterator(); iterator.hasNext(); ) {
+                    RadiationSource source = iterator.next();
+                    double magnitude = source.getMagnitude();
+                    if (source.decay()) {
+                        iterator.remove();
+                        onRemove.accept(source);
+                        chunkChanged = true;
+                    } else if (source.getMagnitude() != magnitude) {
+                        chunkChanged = true;
+                    }
+                }
+                if (chunkChanged) {
+                    chunk.version++;
+                    changedChunks.add(chunkKey);
+                    if (chunk.sources.isEmpty()) {
+                        emptied.add(chunkKey);
+                    }
+                }
+            }
+            for (LongIterator iterator = emptied.iterator(); iterator.hasNext(); ) {
+                dimension.removeChunk(iterator.nextLong());
+            }
+            if (!changedChunks.isEmpty()) {
+                changed.put(entry.getKey(), changedChunks);
+            }
+            if (dimension.chunks.isEmpty()) {
+                dimensionIterator.remove();
+            }
+        }
+        return changed;
+    }
+
+    public void clear() {
+        dimensions.clear();
+    }
+
+    /**
+     * Calculates the radiation level at the given position, and the magnitude of the strongest source in range.
+     *
+     * @param pos    Position to calculate the radiation level at.
+     * @param radius Radius in chunks to check for sources.
+     */
+    public LevelAndMaxMagnitude getLevelAndMaxMagnitude(GlobalPos pos, int radius) {
+        DimensionSources dimension = dimensions.get(pos.dimension());
+        if (dimension == null) {
+            return LevelAndMaxMagnitude.BASELINE;
+        }
+        return dimension.getNeighbourhood(ChunkPos.asLong(pos.pos()), radius).getLevelAndMaxMagnitude(pos.pos(), Mth.square(radius * 16));
+    }
+
+    private static class DimensionSources {
+
+        private final Long2ObjectMap<ChunkSources> chunks = new Long2ObjectOpenHashMap<>();
+        /**
+         * Keys of the chunks that get decayed in each slot.
+         */
+        private final LongSet[] decaySlots = new LongSet[DECAY_SLOTS];
+        /**
+         * Chunks with sources that are in range of each chunk that levels have been looked up in.
+         */
+        private final Long2ObjectMap<Neighbourhood> neighbourhoods = new Long2ObjectOpenHashMap<>();
+        /**
+         * Radius the cached neighbourhoods were calculated with, so that we can tell if the config changed.
+         */
+        private int radius = -1;
+        /**
+         * Incremented each decay cycle, used to tell which neighbourhoods haven't been used since the last cycle.
+         */
+        private int decayCycle;
+
+        private DimensionSources() {
+            for (int slot = 0; slot < DECAY_SLOTS; slot++) {
+                decaySlots[slot] = new LongOpenHashSet();
+            }
+        }
+
+        private static int getDecaySlot(long chunkKey) {
+            //Mix the key so that neighbouring chunks, which will often have been radiated at the same time, end up spread across different slots
+            return Math.floorMod(HashCommon.mix(chunkKey), DECAY_SLOTS);
+        }
+
+        private void add(long chunkKey, RadiationSource source) {
+            ChunkSources chunk = chunks.get(chunkKey);
+            if (chunk == null) {
+                chunk = new ChunkSources(chunkKey);
+                chunks.put(chunkKey, chunk);
+                decaySlots[getDecaySlot(chunkKey)].add(chunkKey);
+                invalidateNeighbourhoods(chunkKey);
+            }
+            chunk.sources.add(source);
+            chunk.version++;
+        }
+
+        private boolean removeChunk(long chunkKey) {
+            ChunkSources chunk = chunks.remove(chunkKey);
+            if (chunk != null) {
+                decaySlots[getDecaySlot(chunkKey)].remove(chunkKey);
+                invalidateNeighbourhoods(chunkKey);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Removes the cached neighbourhoods that the given chunk is in range of, as the chunk either now has sources or no longer has any.
+         */
+        private void invalidateNeighbourhoods(long chunkKey) {
+            if (neighbourhoods.isEmpty()) {
+                return;
+            }
+            int centerX = ChunkPos.getX(chunkKey);
+            int centerZ = ChunkPos.getZ(chunkKey);
+            int diameter = 2 * radius + 1;
+            if (neighbourhoods.size() < diameter * diameter) {
+                neighbourhoods.keySet().removeIf(key -> Math.abs(ChunkPos.getX(key) - centerX) <= radius && Math.abs(ChunkPos.getZ(key) - centerZ) <= radius);
+            } else {
+                for (int x = centerX - radius; x <= centerX + radius; x++) {
+                    for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                        neighbourhoods.remove(ChunkPos.asLong(x, z));
+                    }
+                }
+            }
+        }
+
+        private void evictUnusedNeighbourhoods() {
+            int cycle = decayCycle++;
+            neighbourhoods.values().removeIf(neighbourhood -> neighbourhood.lastUsed != cycle);
+        }
+
+        private Neighbourhood getNeighbourhood(long chunkKey, int radius) {
+            if (this.radius != radius) {
+                neighbourhoods.clear();
+                this.radius = radius;
+            }
+            Neighbourhood neighbourhood = neighbourhoods.get(chunkKey);
+            if (neighbourhood == null) {
+                int centerX = ChunkPos.getX(chunkKey);
+                int centerZ = ChunkPos.getZ(chunkKey);
+                List<ChunkSources> inRange = new ArrayList<>();
+                if (chunks.size() < Mth.square(2 * radius + 1)) {
+                    for (ChunkSources chunk : chunks.values()) {
+                        if (Math.abs(ChunkPos.getX(chunk.key) - centerX) <= radius && Math.abs(ChunkPos.getZ(chunk.key) - centerZ) <= radius) {
+                            inRange.add(chunk);
+                        }
+                    }
+                } else {
+                    for (int x = centerX - radius; x <= centerX + radius; x++) {
+                        for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                            ChunkSources chunk = chunks.get(ChunkPos.asLong(x, z));
+                            if (chunk != null) {
+                                inRange.add(chunk);
+                            }
+                        }
+                    }
+                }
+                neighbourhood = new Neighbourhood(inRange.toArray(new ChunkSources[0]));
+                neighbourhoods.put(chunkKey, neighbourhood);
+            }
+            neighbourhood.lastUsed = decayCycle;
+            return neighbourhood;
+        }
+    }
+
+    private static class ChunkSources {
+
+        private final List<RadiationSource> sources = new ArrayList<>();
+        private final long key;
+        /**
+         * Incremented whenever a source in this chunk is added, removed or changes magnitude.
+         */
+        private long version;
+
+        private ChunkSources(long key) {
+            this.key = key;
+        }
+    }
+
+    private static class Neighbourhood {
+
+        private final ChunkSources[] chunks;
+        /**
+         * Coordinates of each source in range, flattened as x, y, z so that calculating the level at a position doesn't have to look at each chunk's sources.
+         */
+        private int[] sourceCoords = new int[0];
+        private double[] sourceMagnitudes = new double[0];
+        private long version = -1;
+        /**
+         * Decay cycle that this neighbourhood was last looked up in.
+         */
+        private int lastUsed;
+
+        private Neighbourhood(ChunkSources[] chunks) {
+            this.chunks = chunks;
+        }
+
+        private LevelAndMaxMagnitude getLevelAndMaxMagnitude(BlockPos pos, double maxRange) {
+            if (chunks.length == 0) {
+                return LevelAndMaxMagnitude.BASELINE;
+            }
+            //Note: As the versions of each chunk only ever increase, and the chunks that are in range don't change for the lifetime of a neighbourhood,
+            // the sum of the versions only stays the same if none of the chunks changed
+            long currentVersion = 0;
+            int sourceCount = 0;
+            for (ChunkSources chunk : chunks) {
+                currentVersion += chunk.version;
+                sourceCount += chunk.sources.size();
+            }
+            if (currentVersion != version) {
+                gatherSources(sourceCount);
+                version = currentVersion;
+            }
+            double level = RadiationManager.BASELINE;
+            double maxMagnitude = RadiationManager.BASELINE;
+            for (int i = 0; i < sourceMagnitudes.length; i++) {
+                //Note: This matches how Vec3i#distSqr calculates the distance so that the levels are exactly the same as when comparing the positions
+                double dx = (double) sourceCoords[3 * i] - pos.getX();
+                double dy = (double) sourceCoords[3 * i + 1] - pos.getY();
+                double dz = (double) sourceCoords[3 * i + 2] - pos.getZ();
+                double distance = dx * dx + dy * dy + dz * dz;
+                if (distance <= maxRange) {
+                    double magnitude = sourceMagnitudes[i];
+                    level += magnitude / Math.max(1, distance);
+                    maxMagnitude = Math.max(maxMagnitude, magnitude);
+                }
+            }
+            return new LevelAndMaxMagnitude(level, maxMagnitude);
+        }
+
+        private void gatherSources(int sourceCount) {
+            if (sourceMagnitudes.length != sourceCount) {
+                sourceCoords = new int[3 * sourceCount];
+                sourceMagnitudes = new double[sourceCount];
+            }
+            int i = 0;
+            for (ChunkSources chunk : chunks) {
+                for (RadiationSource source : chunk.sources) {
+                    BlockPos sourcePos = source.getPos().pos();
+                    sourceCoords[3 * i] = sourcePos.getX();
+                    sourceCoords[3 * i + 1] = sourcePos.getY();
+                    sourceCoords[3 * i + 2] = sourcePos.getZ();
+                    sourceMagnitudes[i] = source.getMagnitude();
+                    i++;
+                }
+            }
+        }
+    }
+}
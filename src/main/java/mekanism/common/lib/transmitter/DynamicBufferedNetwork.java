@@ -94,6 +94,29 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void removeTransmitterAndAcceptors(TRANSMITTER transmitter) {
+        super.removeTransmitterAndAcceptors(transmitter);
+        removeCapacity(transmitter);
+    }
+
+    @Override
+    protected void transmittersRemoved(@Nullable TRANSMITTER triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        //Clamp the buffer to the reduced capacity
+        clampBuffer();
+        needsUpdate = true;
+        //Flush the cached packet range. Note: We don't bother removing chunks as it would require checking all the remaining transmitters
+        packetRange = null;
+    }
+
+    @Override
+    protected void prepareForSplit() {
+        super.prepareForSplit();
+        //Update all shares so that the transmitters that are being split off take their portion of the buffer with them
+        updateSaveShares(null);
+    }
+
     @Override
     public void deregister() {
         super.deregister();
@@ -127,11 +150,23 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         }
     }
 
+    /**
+     * @param transmitter The transmitter that was removed
+     */
+    protected synchronized void removeCapacity(TRANSMITTER transmitter) {
+        if (capacity == Long.MAX_VALUE) {
+            //Our capacity may have been clamped, so recalculate it from the remaining transmitters
+            updateCapacity();
+        } else {
+            capacity -= transmitter.getCapacity();
+        }
+    }
+
     public synchronized void updateCapacity() {
         long sum = 0;
         for (TRANSMITTER transmitter : getTransmitters()) {
             long transmitterCapacity = transmitter.getCapacity();
-            if (transmitterCapacity > Long.MAX_VALUE - capacity) {
+            if (transmitterCapacity > Long.MAX_VALUE - sum) {
                 //Ensure we don't overflow
                 sum = Long.MAX_VALUE;
                 break;
@@ -169,6 +204,10 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     }
 
     public void markDirty() {
+        NetworkTickScheduler.runOnServerThread(this, network -> network.markChunksDirty());
+    }
+
+    private void markChunksDirty() {
         if (world != null && !world.isClientSide && world.getGameTime() != lastMarkDirtyTime) {
             lastMarkDirtyTime = world.getGameTime();
             for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
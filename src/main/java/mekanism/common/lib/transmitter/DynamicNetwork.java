@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
@@ -26,6 +27,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected final Map<BlockPos, TRANSMITTER> positionedTransmitters = new Object2ObjectOpenHashMap<>();
     protected final Set<TRANSMITTER> transmittersToAdd = new ObjectOpenHashSet<>();
     protected final NetworkAcceptorCache<ACCEPTOR> acceptorCache = new NetworkAcceptorCache<>();
+    /**
+     * Cached owners of the contents of this network's acceptors, used when ticking networks in parallel.
+     */
+    @Nullable
+    NetworkTickScheduler.ContentOwners contentOwners;
     @Nullable
     protected Level world;
     private final UUID uuid;
@@ -129,6 +135,86 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Attempts to remove the given transmitter from this network without invalidating and reforming the entire network. If removing the transmitter splits the network
+     * into multiple pieces, only the pieces that got separated are orphaned so that they can form new networks.
+     *
+     * @param triggerTransmitter Transmitter that was removed or unloaded.
+     *
+     * @return {@code true} if the transmitter was removed, {@code false} if the network needs to be fully invalidated instead.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public boolean removeInvalidIncrementally(TRANSMITTER triggerTransmitter) {
+        if (triggerTransmitter.isValid() || !transmittersToAdd.isEmpty() || transmittersSize() <= 1) {
+            //Connection changes or networks that haven't been committed yet still need to be fully reformed
+            return false;
+        }
+        BlockPos pos = triggerTransmitter.getBlockPos();
+        if (getTransmitter(pos) != triggerTransmitter) {
+            return false;
+        }
+        List<TRANSMITTER> seeds = new ArrayList<>(EnumUtils.DIRECTIONS.length);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            TRANSMITTER neighbor = getTransmitter(pos.relative(side));
+            if (neighbor != null) {
+                if (!neighbor.isValid()) {
+                    //If a neighbor is also being removed, we can't tell which pieces it connected, so just fully reform the network
+                    return false;
+                }
+                seeds.add(neighbor);
+            }
+        }
+        List<List<TRANSMITTER>> separated = NetworkSplitFinder.findSeparated(seeds, this::forEachConnectedTransmitter, transmitter -> transmitter.getBlockPos().asLong());
+        removeTransmitterAndAcceptors(triggerTransmitter);
+        transmittersRemoved(triggerTransmitter);
+        if (!separated.isEmpty()) {
+            prepareForSplit();
+            for (List<TRANSMITTER> piece : separated) {
+                for (TRANSMITTER transmitter : piece) {
+                    transmitter.takeShare();
+                    removeTransmitterAndAcceptors(transmitter);
+                    transmitter.setTransmitterNetwork(null);
+                    TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+                }
+            }
+            transmittersRemoved(null);
+        }
+        return true;
+    }
+
+    private void forEachConnectedTransmitter(TRANSMITTER transmitter, Consumer<TRANSMITTER> consumer) {
+        BlockPos pos = transmitter.getBlockPos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            TRANSMITTER neighbor = getTransmitter(pos.relative(side));
+            if (neighbor != null && neighbor.isValid() && transmitter.isValidTransmitterBasic(neighbor.getTransmitterTile(), side)) {
+                consumer.accept(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Removes the given transmitter and any acceptors it was connected to from this network.
+     */
+    protected void removeTransmitterAndAcceptors(TRANSMITTER transmitter) {
+        positionedTransmitters.remove(transmitter.getBlockPos());
+        acceptorCache.removeTransmitter(transmitter);
+    }
+
+    /**
+     * Called after transmitters have been removed from this network without the network being reformed.
+     *
+     * @param triggerTransmitter Transmitter that was removed or unloaded, or {@code null} if the transmitters were removed because they got split off from this network.
+     */
+    protected void transmittersRemoved(@Nullable TRANSMITTER triggerTransmitter) {
+    }
+
+    /**
+     * Called before transmitters that got separated from this network take their share of this network's contents.
+     */
+    protected void prepareForSplit() {
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
         getTransmitters().removeIf(transmitter -> !transmitter.isValid());
@@ -153,6 +239,13 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmittersToUpdate;
     }
 
+    /**
+     * Adopts all the transmitters and acceptors from the given networks into this already registered network, and then deregisters the given networks.
+     */
+    public void mergeNetworks(Collection<NETWORK> networks) {
+        adoptAllAndRegister(networks);
+    }
+
     protected void adoptAllAndRegister(Collection<NETWORK> networks) {
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
         for (NETWORK net : networks) {
@@ -204,6 +297,14 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * @return {@code true} if {@link #onUpdate()} only interacts with the acceptors that were cached when this network was committed, and can therefore be called off of
+     * the main thread when parallel network ticking is enabled.
+     */
+    protected boolean canTickInParallel() {
+        return false;
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
@@ -0,0 +1,125 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Helper to lazily check whether removing a node from a connected graph (such as a transmitter from a {@link DynamicNetwork}) splits the graph into multiple pieces.
+ * <br><br>
+ * A search is started from each of the removed node's former neighbors, and the searches are advanced one node at a time in lockstep. Whenever two searches reach the
+ * same node they are merged, and as soon as only a single search remains we know that all other pieces have been fully explored. This means the amount of work done is
+ * proportional to the size of the pieces that get split off (or to the distance the searches have to travel to find each other), rather than the size of the entire
+ * graph.
+ */
+public class NetworkSplitFinder {
+
+    private NetworkSplitFinder() {
+    }
+
+    /**
+     * Finds all the pieces that are no longer connected to the rest of the graph.
+     *
+     * @param seeds     Neighbors of the node that was removed. These should all have been part of the same connected graph before the node was removed.
+     * @param neighbors Function that provides all the nodes that are connected to the given node, excluding the removed node.
+     * @param keyGetter Function that provides a unique key for each node.
+     * @param <NODE>    Type of node.
+     *
+     * @return All the pieces that have been separated from the rest of the graph. If the graph is still fully connected, this will be empty. The piece that was not fully
+     * explored is not included as it is assumed to remain part of the original graph.
+     */
+    public static <NODE> List<List<NODE>> findSeparated(List<NODE> seeds, BiConsumer<NODE, Consumer<NODE>> neighbors, ToLongFunction<NODE> keyGetter) {
+        int count = seeds.size();
+        if (count <= 1) {
+            //If there is at most one neighbor, removing the node can't have split the graph
+            return Collections.emptyList();
+        }
+        Long2IntMap visitedBy = new Long2IntOpenHashMap();
+        visitedBy.defaultReturnValue(-1);
+        int[] parents = new int[count];
+        boolean[] finished = new boolean[count];
+        List<ArrayDeque<NODE>> frontiers = new ArrayList<>(count);
+        List<List<NODE>> visited = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            NODE seed = seeds.get(i);
+            parents[i] = i;
+            ArrayDeque<NODE> frontier = new ArrayDeque<>();
+            List<NODE> seen = new ArrayList<>();
+            int previous = visitedBy.putIfAbsent(keyGetter.applyAsLong(seed), i);
+            if (previous == -1) {
+                frontier.add(seed);
+                seen.add(seed);
+            } else {
+                //Duplicate seed, just treat this search as having already met the original one
+                parents[i] = previous;
+            }
+            frontiers.add(frontier);
+            visited.add(seen);
+        }
+        int active = 0;
+        for (int i = 0; i < count; i++) {
+            if (parents[i] == i) {
+                active++;
+            }
+        }
+        List<List<NODE>> separated = new ArrayList<>();
+        while (active > 1) {
+            for (int search = 0; search < count && active > 1; search++) {
+                if (parents[search] != search || finished[search]) {
+                    //Only advance searches that are still running and haven't been merged into other searches
+                    continue;
+                }
+                NODE current = frontiers.get(search).pollFirst();
+                if (current == null) {
+                    //We explored everything reachable from this search without running into any other search, so this is a separate piece
+                    finished[search] = true;
+                    active--;
+                    separated.add(visited.get(search));
+                    continue;
+                }
+                int currentSearch = search;
+                neighbors.accept(current, next -> {
+                    long key = keyGetter.applyAsLong(next);
+                    int owner = visitedBy.get(key);
+                    if (owner == -1) {
+                        visitedBy.put(key, currentSearch);
+                        frontiers.get(currentSearch).addLast(next);
+                        visited.get(currentSearch).add(next);
+                    } else {
+                        int otherSearch = find(parents, owner);
+                        if (otherSearch != currentSearch) {
+                            //The searches met, merge the other search into this one
+                            parents[otherSearch] = currentSearch;
+                            frontiers.get(currentSearch).addAll(frontiers.get(otherSearch));
+                            frontiers.get(otherSearch).clear();
+                            visited.get(currentSearch).addAll(visited.get(otherSearch));
+                            visited.get(otherSearch).clear();
+                        }
+                    }
+                });
+                //Recount the number of active searches, as we may have merged some
+                active = 0;
+                for (int i = 0; i < count; i++) {
+                    if (parents[i] == i && !finished[i]) {
+                        active++;
+                    }
+                }
+            }
+        }
+        return separated;
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+}
@@ -0,0 +1,333 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.Event;
+import net.neoforged.neoforge.common.NeoForge;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Opt-in scheduler that allows ticking independent {@link DynamicNetwork}s in parallel. Before any work is handed off, the owner of the contents behind each acceptor
+ * (for example the tile, or the multiblock for the ports of a multiblock) is looked up on the main thread, and any networks that share an owner are placed into the same
+ * group so that we never have two threads interacting with the same contents at once. Each group is then ticked on a worker thread.
+ * <p>
+ * Networks that look up their acceptors lazily while ticking, or that are connected to any blocks that don't declare an owner for their contents via
+ * {@link TileEntityMekanism#getContentsOwner()} and that we therefore don't know are safe to interact with off of the main thread, are always ticked on the main thread
+ * before the groups are ticked. Anything that has to happen on the main thread as a result of the groups being ticked (such as marking chunks as dirty, or waking up
+ * tiles) is deferred via {@link #runOnServerThread(Object, Consumer)} until all the groups have finished.
+ *
+ * @implNote The acceptors the networks interact with while ticking are the handlers that were looked up and cached on the main thread when the networks were committed,
+ * so the workers never have to look up capabilities themselves. The owners are cached per network as well, and are only looked up again when the network's acceptors
+ * or the owners of its acceptors change.
+ */
+public class NetworkTickScheduler {
+
+    private final Queue<DeferredAction<?>> deferredActions = new ConcurrentLinkedQueue<>();
+    @Nullable
+    private ForkJoinPool pool;
+
+    /**
+     * Ticks all the given networks, in parallel if enabled in the config.
+     *
+     * @param networks Networks to tick.
+     */
+    public void tick(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        if (networks.size() > 1 && MekanismConfig.general.parallelNetworkTicking.get()) {
+            List<DynamicNetwork<?, ?, ?>> serialNetworks = new ArrayList<>();
+            List<List<DynamicNetwork<?, ?, ?>>> groups = groupNetworks(networks, serialNetworks);
+            if (groups.size() > 1) {
+                //Tick the networks that have to be ticked on the main thread first, so that they never run at the same time as any of the groups
+                tickSerially(serialNetworks);
+                tickParallel(groups);
+                return;
+            }
+        }
+        tickSerially(networks);
+    }
+
+    private static void tickSerially(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        for (DynamicNetwork<?, ?, ?> net : networks) {
+            net.onUpdate();
+        }
+    }
+
+    private void tickParallel(List<List<DynamicNetwork<?, ?, ?>>> groups) {
+        ForkJoinPool pool = getPool();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(groups.size());
+        for (List<DynamicNetwork<?, ?, ?>> group : groups) {
+            tasks.add(pool.submit(() -> {
+                try {
+                    tickSerially(group);
+                } finally {
+                    //Note: All threads in our pool are network worker threads
+                    ((NetworkWorkerThread) Thread.currentThread()).flushDeferredActions(deferredActions);
+                }
+            }));
+        }
+        try {
+            //Note: The workers only interact with handlers that were cached when the networks were committed, so all we have to do is wait for them. We make sure not
+            // to run anything else on the main thread while they are running, as it could change the acceptors of the networks that are being ticked
+            for (ForkJoinTask<?> task : tasks) {
+                task.quietlyJoin();
+            }
+            //Now that all the groups have finished, join them so that if any of them failed we propagate the exception the same way we would when ticking serially
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            //Merge the results back on the main thread by running anything the networks tried to do that has to happen on the main thread
+            DeferredAction<?> action;
+            while ((action = deferredActions.poll()) != null) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Posts the given event, deferring it until all networks have finished ticking if this is being called from one of the network worker threads.
+     *
+     * @param event Event to post.
+     */
+    public void post(Event event) {
+        runOnServerThread(event, NeoForge.EVENT_BUS::post);
+    }
+
+    /**
+     * Runs the given action, or if this is being called from one of the network worker threads, defers it until all networks have finished ticking. If the same action
+     * is deferred for the same target multiple times while a group is being ticked, it is only run once.
+     * <p>
+     * This is the single entry point for anything that may be triggered by a network interacting with its acceptors that has to happen on the main thread, such as
+     * marking chunks as dirty or updating comparators.
+     *
+     * @param target Target to run the action on.
+     * @param action Action to run. For deferred actions to be merged, this should be a non-capturing lambda or method reference.
+     */
+    public static <T> void runOnServerThread(T target, Consumer<T> action) {
+        if (Thread.currentThread() instanceof NetworkWorkerThread thread) {
+            thread.deferredActions.add(new DeferredAction<>(target, action));
+        } else {
+            action.accept(target);
+        }
+    }
+
+    private ForkJoinPool getPool() {
+        int parallelism = MekanismConfig.general.parallelNetworkThreads.get();
+        if (pool == null || pool.getParallelism() != parallelism) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            pool = new ForkJoinPool(parallelism, p -> {
+                NetworkWorkerThread thread = new NetworkWorkerThread(p);
+                thread.setName("Mekanism Network Worker-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Uncaught exception in {}", thread.getName(), throwable), false);
+        }
+        return pool;
+    }
+
+    /**
+     * Shuts down the worker threads if they have been started.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        deferredActions.clear();
+    }
+
+    /**
+     * Splits the given networks into groups that do not share the owner of any of their acceptors' contents.
+     *
+     * @param networks       Networks to group.
+     * @param serialNetworks List to add any networks that have to be ticked on the main thread to.
+     */
+    private static List<List<DynamicNetwork<?, ?, ?>>> groupNetworks(Collection<DynamicNetwork<?, ?, ?>> networks, List<DynamicNetwork<?, ?, ?>> serialNetworks) {
+        List<DynamicNetwork<?, ?, ?>> indexed = new ArrayList<>(networks.size());
+        int[] parents = new int[networks.size()];
+        //Note: We compare owners by identity as for example multiblocks in different dimensions may be equal to each other
+        Reference2IntMap<Object> contentOwners = new Reference2IntOpenHashMap<>();
+        contentOwners.defaultReturnValue(-1);
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            ContentOwners networkOwners = getContentOwners(network);
+            if (networkOwners == null) {
+                serialNetworks.add(network);
+                continue;
+            }
+            int index = indexed.size();
+            indexed.add(network);
+            parents[index] = index;
+            for (Object owner : networkOwners.owners) {
+                int other = contentOwners.putIfAbsent(owner, index);
+                if (other != -1) {
+                    union(parents, other, index);
+                }
+            }
+        }
+        Int2ObjectMap<List<DynamicNetwork<?, ?, ?>>> groups = new Int2ObjectOpenHashMap<>();
+        for (int i = 0; i < indexed.size(); i++) {
+            groups.computeIfAbsent(find(parents, i), root -> new ArrayList<>()).add(indexed.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Gets the owners of the contents of all the given network's acceptors, looking them up again if the acceptors or their owners changed since they were cached.
+     *
+     * @return The owners, or {@code null} if the network has to be ticked on the main thread.
+     */
+    @Nullable
+    private static ContentOwners getContentOwners(DynamicNetwork<?, ?, ?> network) {
+        Level world = network.getWorld();
+        if (world == null || !network.canTickInParallel()) {
+            return null;
+        }
+        ContentOwners owners = network.contentOwners;
+        if (owners == null || !owners.isValid(network)) {
+            network.contentOwners = owners = ContentOwners.lookup(network, world);
+        }
+        return owners.safe ? owners : null;
+    }
+
+    private static int find(int[] parents, int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        //Compress the path so that future lookups are faster
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+
+    /**
+     * Owners of the contents of a network's acceptors, and the tiles they were looked up from.
+     */
+    static final class ContentOwners {
+
+        private final int acceptorModCount;
+        private final boolean safe;
+        private final TileEntityMekanism[] tiles;
+        private final Object[] owners;
+
+        private ContentOwners(int acceptorModCount, boolean safe, TileEntityMekanism[] tiles, Object[] owners) {
+            this.acceptorModCount = acceptorModCount;
+            this.safe = safe;
+            this.tiles = tiles;
+            this.owners = owners;
+        }
+
+        /**
+         * @apiNote Must be called on the main thread, as it looks up the block entities of the acceptors.
+         */
+        private static ContentOwners lookup(DynamicNetwork<?, ?, ?> network, Level world) {
+            int modCount = network.acceptorCache.getModCount();
+            Set<TileEntityMekanism> tiles = new ReferenceLinkedOpenHashSet<>();
+            for (Map.Entry<BlockPos, ?> entry : network.acceptorCache.getAcceptorEntrySet()) {
+                BlockEntity tile = WorldUtils.getTileEntity(world, entry.getKey());
+                if (tile instanceof TileEntityBoundingBlock boundingBlock) {
+                    //Bounding blocks proxy the capabilities of their main tile
+                    tile = boundingBlock.getMainTile();
+                }
+                if (!(tile instanceof TileEntityMekanism mekTile) || mekTile.getContentsOwner() == null) {
+                    //We don't know what the acceptor may do when we interact with it, so we can't safely interact with it off of the main thread
+                    return new ContentOwners(modCount, false, new TileEntityMekanism[0], new Object[0]);
+                }
+                tiles.add(mekTile);
+            }
+            TileEntityMekanism[] tileArray = tiles.toArray(new TileEntityMekanism[0]);
+            Object[] owners = new Object[tileArray.length];
+            for (int i = 0; i < tileArray.length; i++) {
+                owners[i] = tileArray[i].getContentsOwner();
+            }
+            return new ContentOwners(modCount, true, tileArray, owners);
+        }
+
+        private boolean isValid(DynamicNetwork<?, ?, ?> network) {
+            if (acceptorModCount != network.acceptorCache.getModCount()) {
+                return false;
+            }
+            for (int i = 0; i < tiles.length; i++) {
+                TileEntityMekanism tile = tiles[i];
+                //Note: The owner of a tile's contents can change without the acceptors changing, for example if a multiblock forms or an entangloporter changes frequency
+                if (tile.isRemoved() || tile.getContentsOwner() != owners[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Identifies actions by the identity of their target and action, so that for example a tile only gets marked as changed once regardless of how many times its
+     * contents changed.
+     */
+    private record DeferredAction<T>(T target, Consumer<T> action) {
+
+        private void run() {
+            action.accept(target);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || o instanceof DeferredAction<?> other && target == other.target && action == other.action;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(target) + System.identityHashCode(action);
+        }
+    }
+
+    private static class NetworkWorkerThread extends ForkJoinWorkerThread {
+
+        /**
+         * Actions deferred by the group currently being ticked on this thread. Only accessed from this thread.
+         */
+        private final Set<DeferredAction<?>> deferredActions = new LinkedHashSet<>();
+
+        private NetworkWorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        private void flushDeferredActions(Queue<DeferredAction<?>> target) {
+            target.addAll(deferredActions);
+            deferredActions.clear();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.Map;
@@ -28,6 +29,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.neoforged.bus.api.Event;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.level.ChunkTicketLevelUpdatedEvent;
@@ -45,6 +47,7 @@ public class TransmitterNetworkRegistry {
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final NetworkTickScheduler tickScheduler = new NetworkTickScheduler();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +82,7 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().tickScheduler.shutdown();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -107,7 +111,16 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerChangedNetwork(DynamicNetwork<?, ?, ?> network) {
-        getInstance().networksToChange.add(network);
+        NetworkTickScheduler.runOnServerThread(network, net -> getInstance().networksToChange.add(net));
+    }
+
+    /**
+     * Posts an event from a network, making sure it gets fired on the main thread if the network is being ticked in parallel.
+     *
+     * @param event Event to post.
+     */
+    public static void postNetworkEvent(Event event) {
+        getInstance().tickScheduler.post(event);
     }
 
     public static TransmitterNetworkRegistry getInstance() {
@@ -129,9 +142,7 @@ public class TransmitterNetworkRegistry {
         removeInvalidTransmitters();
         assignOrphans();
         commitChanges();
-        for (DynamicNetwork<?, ?, ?> net : networks) {
-            net.onUpdate();
-        }
+        tickScheduler.tick(networks);
     }
 
     @SubscribeEvent
@@ -207,7 +218,10 @@ public class TransmitterNetworkRegistry {
         if (!invalid.isOrphan() || !invalid.isValid()) {
             NETWORK n = invalid.getTransmitterNetwork();
             if (n != null) {
-                n.invalidate((TRANSMITTER) invalid);
+                //Try to just remove the transmitter and only reform the pieces that got split off, and fall back to reforming the entire network
+                if (!n.removeInvalidIncrementally((TRANSMITTER) invalid)) {
+                    n.invalidate((TRANSMITTER) invalid);
+                }
                 if (!invalid.isValid()) {
                     //If the transmitter isn't valid, then we need to make sure we clear the network from it
                     // after invalidating the network, so that we can make sure that if this transmitter somehow
@@ -245,6 +259,10 @@ public class TransmitterNetworkRegistry {
         }
     }
 
+    public Set<DynamicNetwork<?, ?, ?>> getNetworks() {
+        return Collections.unmodifiableSet(networks);
+    }
+
     @Override
     public String toString() {
         return "Network Registry:\n" + networks;
@@ -294,16 +312,24 @@ public class TransmitterNetworkRegistry {
                     Mekanism.logger.info("Adding {} transmitters to single found network", connectedTransmitters.size());
                 }
                 network = networksFound.iterator().next();
+            } else if (networksFound.isEmpty()) {
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
+                }
+                network = startPoint.createNetworkByMerging(networksFound);
             } else {
                 if (MekanismAPI.debug) {
-                    if (networksFound.isEmpty()) {
-                        Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
-                    } else {
-                        Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                    Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                }
+                //Merge the smaller networks into the largest one so that we only have to move the transmitters of the smaller networks
+                network = null;
+                for (NETWORK found : networksFound) {
+                    if (network == null || found.transmittersSize() > network.transmittersSize()) {
+                        network = found;
                     }
                 }
-                //TODO: Should we take one of the existing network's uuids if there is one?
-                network = startPoint.createNetworkByMerging(networksFound);
+                networksFound.remove(network);
+                network.mergeNetworks(networksFound);
             }
             network.addNewTransmitters(connectedTransmitters, transmitterValidator);
             return network;
@@ -1,6 +1,7 @@
 package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -10,6 +11,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
@@ -18,11 +20,16 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, ACCEPTOR>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Incremented whenever the cached acceptors change, so that anything derived from them knows when it needs to be recalculated.
+     */
+    private int modCount;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
         ACCEPTOR acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : null;
         BlockPos acceptorPos = transmitter.getBlockPos().relative(side);
+        modCount++;
         if (acceptor == null) {
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
             if (cached != null) {
@@ -36,7 +43,27 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes any acceptors that were cached for the given transmitter.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        BlockPos pos = transmitter.getBlockPos();
+        modCount++;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos acceptorPos = pos.relative(side);
+            Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null) {
+                cached.remove(side.getOpposite());
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
+        }
+        changedAcceptors.remove(transmitter);
+    }
+
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        modCount++;
         for (Entry<BlockPos, Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -60,6 +87,23 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         TransmitterNetworkRegistry.registerChangedNetwork(transmitter.getTransmitterNetwork());
     }
 
+    /**
+     * Gets the positions of all the acceptors that have changed and will be updated the next time this cache is committed.
+     */
+    public Set<BlockPos> getChangedAcceptorPositions() {
+        if (changedAcceptors.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<BlockPos> positions = new ObjectOpenHashSet<>();
+        for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : changedAcceptors.entrySet()) {
+            BlockPos pos = entry.getKey().getBlockPos();
+            for (Direction side : entry.getValue()) {
+                positions.add(pos.relative(side));
+            }
+        }
+        return positions;
+    }
+
     public void commit() {
         if (!changedAcceptors.isEmpty()) {
             for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : changedAcceptors.entrySet()) {
@@ -76,6 +120,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void deregister() {
+        modCount++;
         cachedAcceptors.clear();
         changedAcceptors.clear();
     }
@@ -94,11 +139,22 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    public int getModCount() {
+        return modCount;
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
     }
 
+    /**
+     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     */
+    public Map<Direction, ACCEPTOR> getCachedAcceptors(BlockPos acceptorPos) {
+        return cachedAcceptors.getOrDefault(acceptorPos, Collections.emptyMap());
+    }
+
     public boolean hasAcceptor(BlockPos acceptorPos) {
         return cachedAcceptors.containsKey(acceptorPos);
     }
@@ -6,6 +6,7 @@ import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.FilterManager;
@@ -31,6 +32,7 @@ import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBundlePacket;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.players.PlayerList;
@@ -137,6 +139,31 @@ public class PacketUtils {
         PacketDistributor.sendToPlayersTrackingChunk((ServerLevel) world, new ChunkPos(pos), message);
     }
 
+    /**
+     * Sends a message to all players that are tracking the chunk at the given position but aren't tracking the chunk at the previous position.
+     *
+     * @param message  - supplier of the message to send, only called if there is at least one player to send it to
+     * @param previous - the position that players may already know about
+     * @param pos      - the position to send the message about
+     */
+    public static <MSG extends CustomPacketPayload> void sendToAllNewlyTracking(Supplier<MSG> message, Level world, BlockPos previous, BlockPos pos) {
+        ChunkPos chunk = new ChunkPos(pos);
+        ChunkPos previousChunk = new ChunkPos(previous);
+        if (!chunk.equals(previousChunk)) {
+            ChunkMap chunkMap = ((ServerLevel) world).getChunkSource().chunkMap;
+            List<ServerPlayer> previousPlayers = chunkMap.getPlayers(previousChunk, false);
+            MSG msg = null;
+            for (ServerPlayer player : chunkMap.getPlayers(chunk, false)) {
+                if (!previousPlayers.contains(player)) {
+                    if (msg == null) {
+                        msg = message.get();
+                    }
+                    PacketDistributor.sendToPlayer(player, msg);
+                }
+            }
+        }
+    }
+
     //TODO: Evaluate moving various network related packets over to this (and making it support non buffered networks)
     public static void sendToAllTracking(DynamicBufferedNetwork<?, ?, ?, ?> network, CustomPacketPayload... packets) {
         Range3D range = network.getPacketRange();
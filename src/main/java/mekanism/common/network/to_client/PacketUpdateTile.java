@@ -1,30 +1,68 @@
 package mekanism.common.network.to_client;
 
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements IMekanismPacket {
+/**
+ * @param updateTag Either the full update tag, or if this is a delta, only the top level entries of the update tag that changed since the last update.
+ * @param delta     {@code true} if the update tag should be applied on top of the last update tag the client received.
+ * @param removed   Keys of the top level entries that were removed since the last update, if this is a delta.
+ */
+public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag, boolean delta, List<String> removed) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateTile> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tile"));
     public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = StreamCodec.composite(
           BlockPos.STREAM_CODEC, PacketUpdateTile::pos,
           ByteBufCodecs.TRUSTED_COMPOUND_TAG, PacketUpdateTile::updateTag,
+          ByteBufCodecs.BOOL, PacketUpdateTile::delta,
+          ByteBufCodecs.STRING_UTF8.apply(ByteBufCodecs.list()), PacketUpdateTile::removed,
           PacketUpdateTile::new
     );
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag(tile.getLevel().registryAccess()));
+    public PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
+        this(pos, updateTag, false, List.of());
+    }
+
+    /**
+     * Creates a packet that only contains the entries of the update tag that changed since the previous update tag was sent.
+     *
+     * @return The packet, or {@code null} if nothing changed.
+     */
+    @Nullable
+    public static PacketUpdateTile delta(BlockPos pos, CompoundTag previous, CompoundTag current) {
+        CompoundTag changed = new CompoundTag();
+        for (String key : current.getAllKeys()) {
+            Tag value = current.get(key);
+            if (!Objects.equals(value, previous.get(key))) {
+                changed.put(key, value);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.getAllKeys()) {
+            if (!current.contains(key)) {
+                removed.add(key);
+            }
+        }
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new PacketUpdateTile(pos, changed, true, removed);
     }
 
     @NotNull
@@ -43,7 +81,7 @@ public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements I
                 Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
                       world.dimension().location());
             } else {
-                tile.handleUpdatePacket(updateTag, world.registryAccess());
+                tile.handleUpdatePacket(delta ? tile.applyUpdateDelta(updateTag, removed) : updateTag, world.registryAccess());
             }
         }
     }
@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -27,6 +28,8 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        //And forget any complex recipe matches, as they may be from our complex recipes
+        ComplexRecipeMatchCache.clear();
     }
 
     /**
@@ -56,15 +59,15 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
             return false;
         }
         initCacheIfNeeded(world);
-        if (cache.contains(input)) {
-            return true;
-        }
-        for (RECIPE recipe : complexRecipes) {
-            if (inputExtractor.apply(recipe).testType(input)) {
-                return true;
-            }
-        }
-        return false;
+        return cache.contains(input) || !getComplexMatches(input, inputExtractor, cache, complexRecipes).isEmpty();
+    }
+
+    /**
+     * Helper to get the recipes out of the given complex recipes whose ingredient matches the type of the given input, using the {@link ComplexRecipeMatchCache}.
+     */
+    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> Collection<RECIPE> getComplexMatches(INPUT input,
+          Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+        return ComplexRecipeMatchCache.getMatches(complexRecipes, cache, input, inputExtractor);
     }
 
     /**
@@ -94,8 +97,8 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
             }
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        for (RECIPE recipe : complexIngredients1) {
-            if (input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2)) {
+        for (RECIPE recipe : getComplexMatches(input1, input1Extractor, cache1, complexIngredients1)) {
+            if (input2Extractor.apply(recipe).testType(input2)) {
                 return true;
             }
         }
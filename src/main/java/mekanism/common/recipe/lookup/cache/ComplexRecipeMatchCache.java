@@ -0,0 +1,143 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.recipe.lookup.cache.type.IInputCache;
+
+/**
+ * Global cache of which recipes with complex ingredients an input matches the type of. Complex ingredients can't be mapped by their input, so without this they have to
+ * all be tested every time a lookup falls through the quick lookup caches. The cache is bounded, evicting the least recently used inputs once it is full, and inputs that
+ * don't match any complex recipes are remembered as well.
+ *
+ * @implNote As the matches are based on the ingredients only checking the type of the input, the amount of the input is not part of the key, and callers still have to
+ * test the full recipe against the matches.
+ */
+public class ComplexRecipeMatchCache {
+
+    private ComplexRecipeMatchCache() {
+    }
+
+    private static final Map<MatchKey, List<?>> matches = new LinkedHashMap<>(16, 0.75F, true);
+    private static long hits;
+    private static long misses;
+    private static long evicted;
+
+    /**
+     * Gets the recipes out of the given complex recipes whose ingredient matches the type of the given input.
+     *
+     * @param complexRecipes Complex recipes to check. The identity of this set is used as part of the key, so it should be the backing set of the recipe cache.
+     * @param cache          Input cache to create the key for the input with.
+     * @param input          Input to check.
+     * @param inputExtractor Extracts the ingredient to test the type of the input against from a recipe.
+     *
+     * @return Recipes whose ingredient matches the type of the given input.
+     */
+    @SuppressWarnings("unchecked")
+    static synchronized <INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe> Collection<RECIPE> getMatches(Set<RECIPE> complexRecipes,
+          IInputCache<INPUT, INGREDIENT, RECIPE> cache, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor) {
+        if (complexRecipes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int maxSize = MekanismConfig.general.recipeMatchCacheSize.getOrDefault();
+        if (maxSize == 0) {
+            return findMatches(complexRecipes, input, inputExtractor);
+        }
+        List<?> cached = matches.get(new MatchKey(complexRecipes, cache.createTypeKey(input, true)));
+        if (cached != null) {
+            hits++;
+            return (List<RECIPE>) cached;
+        }
+        misses++;
+        List<RECIPE> found = findMatches(complexRecipes, input, inputExtractor);
+        matches.put(new MatchKey(complexRecipes, cache.createTypeKey(input, false)), found);
+        if (matches.size() > maxSize) {
+            Iterator<List<?>> iterator = matches.values().iterator();
+            while (matches.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return found;
+    }
+
+    private static <INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe> List<RECIPE> findMatches(Set<RECIPE> complexRecipes, INPUT input,
+          Function<RECIPE, INGREDIENT> inputExtractor) {
+        List<RECIPE> found = null;
+        for (RECIPE recipe : complexRecipes) {
+            if (inputExtractor.apply(recipe).testType(input)) {
+                if (found == null) {
+                    found = new ArrayList<>(1);
+                }
+                found.add(recipe);
+            }
+        }
+        //Share the same empty list between all inputs that don't match anything
+        return found == null ? Collections.emptyList() : found;
+    }
+
+    /**
+     * Removes all remembered matches. Must be called whenever the recipe caches are cleared, as the keys are based on the complex recipe sets of the caches.
+     */
+    public static synchronized void clear() {
+        matches.clear();
+    }
+
+    public static synchronized void reset() {
+        matches.clear();
+        hits = 0;
+        misses = 0;
+        evicted = 0;
+    }
+
+    /**
+     * @return A snapshot of how effective the cache has been since the server started.
+     */
+    public static synchronized CacheStats getStats() {
+        return new CacheStats(matches.size(), MekanismConfig.general.recipeMatchCacheSize.get(), hits, misses, evicted);
+    }
+
+    public record CacheStats(int size, int maxSize, long hits, long misses, long evicted) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+
+    /**
+     * Key of the remembered matches, which compares the complex recipes by identity so that we don't have to hash all the recipes in the set.
+     */
+    private static final class MatchKey {
+
+        private final Set<?> complexRecipes;
+        private final Object input;
+        private final int hashCode;
+
+        private MatchKey(Set<?> complexRecipes, Object input) {
+            this.complexRecipes = complexRecipes;
+            this.input = input;
+            this.hashCode = 31 * System.identityHashCode(complexRecipes) + input.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || o instanceof MatchKey other && complexRecipes == other.complexRecipes && input.equals(other.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
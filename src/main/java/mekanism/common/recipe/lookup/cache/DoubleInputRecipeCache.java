@@ -150,8 +150,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         } else {
             recipe = findFirstRecipe(inputA, inputB, cacheB.getRecipes(inputB));
         }
-        // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, complexRecipes) : recipe;
+        // if there is no recipe, then check if any of our complex recipes (either a or b being complex) that match the type of input A match
+        return recipe == null ? findFirstRecipe(inputA, inputB, getComplexMatches(inputA, inputAExtractor, cacheA, complexRecipes)) : recipe;
     }
 
     @Nullable
@@ -190,8 +190,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                     return recipe;
                 }
             }
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputAExtractor.apply(complexRecipe).testType(inputA) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
+            for (RECIPE complexRecipe : getComplexMatches(inputA, inputAExtractor, cacheA, complexRecipes)) {
+                if (matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
                     return complexRecipe;
                 }
             }
@@ -201,11 +201,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                     return recipe;
                 }
             }
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputAExtractor.apply(complexRecipe).testType(inputA)) {
-                    if (inputBExtractor.apply(complexRecipe).testType(inputB) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
-                        return complexRecipe;
-                    }
+            for (RECIPE complexRecipe : getComplexMatches(inputA, inputAExtractor, cacheA, complexRecipes)) {
+                if (inputBExtractor.apply(complexRecipe).testType(inputB) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
+                    return complexRecipe;
                 }
             }
         }
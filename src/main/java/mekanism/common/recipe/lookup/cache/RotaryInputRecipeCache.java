@@ -78,7 +78,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, fluidInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexFluidInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, getComplexMatches(input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes)) : recipe;
     }
 
     @Nullable
@@ -107,7 +107,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, gasInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexGasInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, getComplexMatches(input, RotaryRecipe::getGasInput, gasInputCache, complexGasInputRecipes)) : recipe;
     }
 
     @Nullable
@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -66,7 +67,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         }
         initCacheIfNeeded(world);
         RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, getComplexMatches(input, inputExtractor, cache, complexRecipes)) : recipe;
     }
 
     @Nullable
@@ -96,11 +97,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         initCacheIfNeeded(world);
         RECIPE recipe = cache.findFirstRecipe(input, ConstantPredicates.alwaysTrue());
         if (recipe == null) {
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputExtractor.apply(complexRecipe).testType(input)) {
-                    return complexRecipe;
-                }
-            }
+            Collection<RECIPE> complexMatches = getComplexMatches(input, inputExtractor, cache, complexRecipes);
+            return complexMatches.isEmpty() ? null : complexMatches.iterator().next();
         }
         return recipe;
     }
@@ -126,8 +124,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.test(complexRecipe, input, data)) {
+        for (RECIPE complexRecipe : getComplexMatches(input, inputExtractor, cache, complexRecipes)) {
+            if (matchCriteria.test(complexRecipe, input, data)) {
                 return complexRecipe;
             }
         }
@@ -155,8 +153,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.testType(complexRecipe, input, data1, data2)) {
+        for (RECIPE complexRecipe : getComplexMatches(input, inputExtractor, cache, complexRecipes)) {
+            if (matchCriteria.testType(complexRecipe, input, data1, data2)) {
                 return complexRecipe;
             }
         }
@@ -191,10 +191,8 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             }
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        for (RECIPE recipe : complexIngredients1) {
-            if (input1Extractor.apply(recipe).testType(input1) &&
-                input2Extractor.apply(recipe).testType(input2) &&
-                input3Extractor.apply(recipe).testType(input3)) {
+        for (RECIPE recipe : getComplexMatches(input1, input1Extractor, cache1, complexIngredients1)) {
+            if (input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3)) {
                 return true;
             }
         }
@@ -222,8 +220,8 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         initCacheIfNeeded(world);
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = findFirstRecipe(inputA, inputB, inputC, cacheA.getRecipes(inputA));
-        // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, inputC, complexRecipes) : recipe;
+        // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) that match the type of input A match
+        return recipe == null ? findFirstRecipe(inputA, inputB, inputC, getComplexMatches(inputA, inputAExtractor, cacheA, complexRecipes)) : recipe;
     }
 
     @Nullable
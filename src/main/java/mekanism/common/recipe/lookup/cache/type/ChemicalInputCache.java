@@ -38,6 +38,12 @@ public class ChemicalInputCache<CHEMICAL extends Chemical<CHEMICAL>, STACK exten
         return stack.getChemical();
     }
 
+    @Override
+    public CHEMICAL createTypeKey(STACK stack, boolean raw) {
+        //Chemical stacks don't have any components, so the type is just the chemical
+        return stack.getChemical();
+    }
+
     @Override
     public boolean isEmpty(STACK input) {
         return input.isEmpty();
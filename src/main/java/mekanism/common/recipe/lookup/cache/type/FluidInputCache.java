@@ -44,8 +44,29 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return stack;
     }
 
+    @Override
+    public Object createTypeKey(FluidStack stack, boolean raw) {
+        return new FluidTypeKey(raw ? stack : stack.copyWithAmount(1));
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Wrapper around a {@link FluidStack} that compares and hashes based on the fluid and components, ignoring the amount.
+     */
+    private record FluidTypeKey(FluidStack stack) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || o instanceof FluidTypeKey other && FluidStack.isSameFluidSameComponents(stack, other.stack);
+        }
+
+        @Override
+        public int hashCode() {
+            return FluidStack.hashFluidAndComponents(stack);
+        }
+    }
+}
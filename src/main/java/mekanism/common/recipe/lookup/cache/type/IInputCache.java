@@ -78,6 +78,17 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
         return multi.forEachIngredient(recipe, this::mapInputs);
     }
 
+    /**
+     * Creates a key representing the type of the given input, ignoring the amount, for use in remembering which complex recipes an input matches.
+     *
+     * @param input Input to convert into a key.
+     * @param raw   {@code true} if the key is only used for querying and may be backed by the given input, {@code false} if the key will be persisted and must not be
+     *              affected by later changes to the given input.
+     *
+     * @return Key representing the type of the given input.
+     */
+    Object createTypeKey(INPUT input, boolean raw);
+
     /**
      * Clears this {@link IInputCache}
      */
@@ -68,6 +68,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    public HashedItem createTypeKey(ItemStack stack, boolean raw) {
+        return raw ? HashedItem.raw(stack) : HashedItem.create(stack);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
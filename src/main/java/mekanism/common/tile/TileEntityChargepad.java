@@ -42,6 +42,11 @@ public class TileEntityChargepad extends TileEntityMekanism {
         super(MekanismBlocks.CHARGEPAD, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
@@ -89,6 +89,11 @@ public class TileEntityFluidTank extends TileEntityMekanism implements IConfigur
         super(blockProvider, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @Override
     protected void presetVariables() {
         super.presetVariables();
@@ -206,6 +206,12 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
         return freq != null && freq.isValid() && !freq.isRemoved();
     }
 
+    @Override
+    public Object getContentsOwner() {
+        //All entangloporters on the same frequency expose the frequency's contents
+        return hasFrequency() ? getFreq() : this;
+    }
+
     @Override
     public boolean persists(ContainerType<?, ?, ?> type) {
         // don't persist ANY substance types
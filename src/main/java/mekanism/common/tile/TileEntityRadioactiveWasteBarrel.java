@@ -53,6 +53,11 @@ public class TileEntityRadioactiveWasteBarrel extends TileEntityMekanism impleme
         super(MekanismBlocks.RADIOACTIVE_WASTE_BARREL, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks(IContentsListener listener) {
@@ -117,6 +117,11 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         cacheCoord();
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
@@ -284,6 +284,16 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected IntSupplier delaySupplier = MekanismConfig.general.blockDeactivationDelay;
     //End variables ITileActive
 
+    //Variables for handling sleeping
+    /**
+     * Incremented to wake up all sleeping tiles, for example when recipes are reloaded and machines that didn't have a recipe before may now have one.
+     */
+    private static int wakeGeneration;
+    private int sleepGeneration;
+    private boolean sleeping;
+    private boolean changedSinceLastTick;
+    //End variables for sleeping
+
     //Variables for handling ITileSound
     @Nullable
     protected final Supplier<SoundEvent> soundEvent;
@@ -652,7 +662,19 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
                 }
             }
         }
-        boolean sendUpdatePacket = tile.onUpdateServer();
+        boolean sendUpdatePacket = false;
+        if (tile.sleeping && tile.sleepGeneration != wakeGeneration) {
+            tile.sleeping = false;
+        }
+        if (!tile.sleeping) {
+            sendUpdatePacket = tile.onUpdateServer();
+            //Only go to sleep if nothing changed since we last ticked, as otherwise our update may not have caught up to the change yet
+            if (!tile.changedSinceLastTick && MekanismConfig.general.sleepIdleMachines.get() && tile.canSleep()) {
+                tile.sleeping = true;
+                tile.sleepGeneration = wakeGeneration;
+            }
+        }
+        tile.changedSinceLastTick = false;
         if (tile.updateRadiationScale()) {
             sendUpdatePacket = true;
         }
@@ -685,6 +707,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -722,7 +745,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     /**
-     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side.
+     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side, unless the tile is sleeping.
      *
      * @return {@code true} if an update packet needs to be sent to the client.
      */
@@ -730,6 +753,47 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return false;
     }
 
+    /**
+     * Called on the server after {@link #onUpdateServer()} to check if this tile can stop calling {@link #onUpdateServer()} until it is woken up. Tiles are woken up
+     * when any of their contents change or get marked for saving, when a neighbor changes, when a player opens them, and when recipes are reloaded.
+     *
+     * @return {@code true} if nothing will happen in {@link #onUpdateServer()} until something about this tile changes.
+     *
+     * @apiNote Only return {@code true} if all the work done by {@link #onUpdateServer()} is blocked on something that will cause the tile to be woken up.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping so that {@link #onUpdateServer()} gets called again.
+     */
+    public void wakeUp() {
+        sleeping = false;
+        changedSinceLastTick = true;
+    }
+
+    /**
+     * Gets the object that owns the contents this tile exposes via capabilities. Transmitter networks that interact with contents with the same owner are always ticked on
+     * the same thread when parallel network ticking is enabled.
+     *
+     * @return The owner of this tile's contents, or {@code null} if the contents can't safely be interacted with off of the main thread.
+     *
+     * @implNote Defaults to {@code null} as we can't know if a tile shares its contents with other tiles, or if it does anything that isn't thread safe when they change.
+     * Tiles that only expose their own contents should override this and return themselves.
+     */
+    @Nullable
+    public Object getContentsOwner() {
+        return null;
+    }
+
+    /**
+     * Wakes up all sleeping tiles.
+     */
+    public static void wakeUpAll() {
+        wakeGeneration++;
+    }
+
     @Override
     @Deprecated
     public void setBlockState(@NotNull BlockState newState) {
@@ -978,6 +1042,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wakeUp();
             updatePower();
         }
     }
@@ -1201,6 +1266,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         setChanged();
     }
 
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Any change to the contents or the configuration of the tile may allow it to do something again
+        wakeUp();
+    }
+
     public void applyInventorySlots(BlockEntity.DataComponentInput input, List<IInventorySlot> slots, AttachedItems attachedItems) {
         List<ItemStack> stacks = attachedItems.containers();
         int size = stacks.size();
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.transmitter.NetworkTickScheduler;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.PacketUpdateTile;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
@@ -34,6 +35,12 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private GlobalPos cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    /**
+     * The last update tag that was sent to or received by clients using our own update packet, so that only the changes to it have to be sent. Cleared on the server
+     * whenever clients may have been sent a different update tag.
+     */
+    @Nullable
+    private CompoundTag lastUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -93,11 +100,11 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
 
     @Override
     public final void setChanged() {
-        setChanged(true);
+        NetworkTickScheduler.runOnServerThread(this, tile -> tile.setChanged(true));
     }
 
     public final void markForSave() {
-        setChanged(false);
+        NetworkTickScheduler.runOnServerThread(this, tile -> tile.setChanged(false));
     }
 
     protected void setChanged(boolean updateComparator) {
@@ -133,9 +140,19 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @NotNull
     @Override
     public CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
+        //The update tag is being sent to some clients outside our own update packet, so make sure the next update packet contains the full update tag
+        lastUpdateTag = null;
         return getReducedUpdateTag(provider);
     }
 
+    @Override
+    public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
+        super.handleUpdateTag(tag, provider);
+        if (isRemote()) {
+            lastUpdateTag = tag;
+        }
+    }
+
     /**
      * Similar to {@link #getUpdateTag(HolderLookup.Provider)} but with reduced information for when we are doing our own syncing.
      */
@@ -158,6 +175,31 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag, provider);
     }
 
+    /**
+     * Applies the changes from an update packet to the last update tag this tile received.
+     *
+     * @param changed Top level entries that changed.
+     * @param removed Keys of the top level entries that were removed.
+     *
+     * @return The full update tag.
+     */
+    public CompoundTag applyUpdateDelta(@NotNull CompoundTag changed, @NotNull List<String> removed) {
+        //Note: We make a shallow copy rather than modifying the last update tag, as in single player it may be the same object the server has
+        CompoundTag updateTag = new CompoundTag();
+        if (lastUpdateTag != null) {
+            for (String key : lastUpdateTag.getAllKeys()) {
+                updateTag.put(key, lastUpdateTag.get(key));
+            }
+        }
+        for (String key : removed) {
+            updateTag.remove(key);
+        }
+        for (String key : changed.getAllKeys()) {
+            updateTag.put(key, changed.get(key));
+        }
+        return updateTag;
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -171,7 +213,22 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            CompoundTag updateTag = getReducedUpdateTag(level.registryAccess());
+            PacketUpdateTile packet;
+            if (tracking == this && lastUpdateTag != null) {
+                //Only send what changed since the last update, as all the players tracking this tile received the last update
+                packet = PacketUpdateTile.delta(worldPosition, lastUpdateTag, updateTag);
+                if (packet == null) {
+                    //Nothing changed so there is nothing to send
+                    return;
+                }
+            } else {
+                packet = new PacketUpdateTile(worldPosition, updateTag);
+            }
+            //If we are sending to players tracking a different tile, they may not be the players that received the last update,
+            // so we can't use this update as the base for the next update
+            lastUpdateTag = tracking == this ? updateTag : null;
+            PacketUtils.sendToAllTracking(packet, tracking);
         }
     }
 
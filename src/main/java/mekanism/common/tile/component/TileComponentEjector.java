@@ -144,6 +144,19 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return info.isEjecting() && (canEject == null || canEject.test(type));
     }
 
+    /**
+     * @return {@code true} if any of the types this ejector handles are set to eject, in which case {@link #tickServer()} needs to keep being called.
+     */
+    public boolean isEjecting() {
+        for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
+            TransmissionType type = entry.getKey();
+            if (type != TransmissionType.HEAT && isEjecting(entry.getValue(), type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void tickServer() {
         Lazy<Direction> facing = Lazy.of(tile::getDirection);
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
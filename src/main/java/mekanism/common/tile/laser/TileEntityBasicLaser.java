@@ -77,6 +77,11 @@ public abstract class TileEntityBasicLaser extends TileEntityMekanism {
         super(blockProvider, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
@@ -792,7 +792,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -804,7 +803,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        //Stop the old search so that any of its sections that haven't been scanned yet get skipped
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
@@ -1198,7 +1198,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
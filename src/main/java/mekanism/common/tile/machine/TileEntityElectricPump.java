@@ -119,6 +119,11 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         super(MekanismBlocks.ELECTRIC_PUMP, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IFluidTankHolder getInitialFluidTanks(IContentsListener listener) {
@@ -91,6 +91,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super(MekanismBlocks.FLUIDIC_PLENISHER, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IFluidTankHolder getInitialFluidTanks(IContentsListener listener) {
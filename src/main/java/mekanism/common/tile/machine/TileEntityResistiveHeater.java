@@ -60,6 +60,11 @@ public class TileEntityResistiveHeater extends TileEntityMekanism {
         super(MekanismBlocks.RESISTIVE_HEATER, pos, state);
     }
 
+    @Override
+    public Object getContentsOwner() {
+        return this;
+    }
+
     @NotNull
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
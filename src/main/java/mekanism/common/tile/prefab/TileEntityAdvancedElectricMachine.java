@@ -171,6 +171,12 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean canSleep() {
+        //Note: If the energy or secondary slots were able to fill our containers then we will have changed and won't be able to sleep yet
+        return isRecipeProcessingStalled();
+    }
+
     protected boolean allowExtractingChemical() {
         return !useStatisticalMechanics();
     }
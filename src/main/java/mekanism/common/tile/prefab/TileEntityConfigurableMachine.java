@@ -23,6 +23,12 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
         configComponent = new TileComponentConfig(this, Attribute.getOrThrow(blockProvider, AttributeSideConfig.class).supportedTypes());
     }
 
+    @Override
+    public Object getContentsOwner() {
+        //Note: Machines that expose contents that are shared with other tiles need to override this
+        return this;
+    }
+
     @Override
     public final TileComponentConfig getConfig() {
         return configComponent;
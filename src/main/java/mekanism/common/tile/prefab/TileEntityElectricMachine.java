@@ -99,6 +99,12 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean canSleep() {
+        //Note: If the energy slot was able to fill our energy container then we will have changed and won't be able to sleep yet
+        return isRecipeProcessingStalled();
+    }
+
     @Nullable
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
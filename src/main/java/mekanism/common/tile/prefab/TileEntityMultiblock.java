@@ -250,6 +250,13 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         return isMaster;
     }
 
+    @Override
+    public Object getContentsOwner() {
+        //When formed, we expose the contents of the multiblock
+        T multiblock = getMultiblock();
+        return multiblock.isFormed() ? multiblock : this;
+    }
+
     @NotNull
     @Override
     public CompoundTag getReducedUpdateTag(@NotNull HolderLookup.Provider provider) {
@@ -126,6 +126,29 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         }
     }
 
+    /**
+     * Checks if the recipe processing of this machine is stuck until something about the machine changes. This is the case when there is no recipe for the current
+     * inputs, or when the recipe didn't perform any operations because of errors or because the machine is disabled by redstone.
+     *
+     * @implNote Only checks the recipe and ejection of the machine, implementations that do other work when updating have to check that separately.
+     */
+    protected boolean isRecipeProcessingStalled() {
+        if (!playersUsing.isEmpty() || ejectorComponent != null && ejectorComponent.isEjecting()) {
+            //Keep ticking while players are looking at the machine so that all the errors get rechecked
+            return false;
+        } else if (recipeCacheLookupMonitor.getCachedRecipe(0) == null) {
+            return recipeCacheLookupMonitor.hasNoRecipe(0);
+        } else if (getActive()) {
+            return false;
+        }
+        for (boolean trackedError : trackedErrors) {
+            if (trackedError) {
+                return true;
+            }
+        }
+        return !canFunction();
+    }
+
     public BooleanSupplier getWarningCheck(RecipeError error) {
         int errorIndex = errorTypes.indexOf(error);
         if (errorIndex == -1) {
@@ -1,6 +1,7 @@
 package mekanism.common.util;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.DistributionMode;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
@@ -20,25 +21,32 @@ public class EmitUtils {
      * @param availableTargets The targets to distribute toSend fairly among.
      * @param splitInfo        Information containing the split.
      * @param toSend           Any extra information such as gas stack or fluid stack.
+     * @param mode             Strategy to use for splitting between the targets.
      *
      * @return The amount that actually got sent.
      */
     private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          TARGET availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+          TARGET availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend, DistributionMode mode) {
         if (availableTargets.getHandlerCount() == 0) {
             return splitInfo.getTotalSent();
         }
 
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.sendPossible(toSend, splitInfo);
+        if (mode == DistributionMode.SORTED) {
+            //Simulate addition and then sort by the requested amounts, so that we can send to all the targets that need less than the amountPer in a single pass
+            // splitInfo gets adjusted to account for how much is actually sent
+            availableTargets.sendSorted(toSend, splitInfo);
+        } else {
+            //Simulate addition, sending when the requested amount is less than the amountPer
+            // splitInfo gets adjusted to account for how much is actually sent
+            availableTargets.sendPossible(toSend, splitInfo);
 
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again, and we need to rerun this
-            availableTargets.shiftNeeded(splitInfo);
+            //Only run this if we changed the amountPer from when we first/last ran things
+            while (splitInfo.amountPerChanged) {
+                splitInfo.amountPerChanged = false;
+                //splitInfo gets adjusted to account for how much is actually sent,
+                // and if amountPer got changed again, and we need to rerun this
+                availableTargets.shiftNeeded(splitInfo);
+            }
         }
 
         //Evenly distribute the remaining amount we have to give between all targets and handlers
@@ -58,7 +66,23 @@ public class EmitUtils {
      * @return The amount that actually got sent.
      */
     public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
+        return sendToAcceptors(availableTargets, amountToSplit, toSend, DistributionMode.ITERATIVE);
+    }
+
+    /**
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     * @param mode             Strategy to use for splitting between the targets.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend,
+          DistributionMode mode) {
+        return sendToAcceptors(availableTargets, new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend, mode);
     }
 
     /**
@@ -72,7 +96,23 @@ public class EmitUtils {
      * @return The amount that actually got sent.
      */
     public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
+        return sendToAcceptors(availableTargets, amountToSplit, toSend, DistributionMode.ITERATIVE);
+    }
+
+    /**
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     * @param mode             Strategy to use for splitting between the targets.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend,
+          DistributionMode mode) {
+        return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend, mode);
     }
 
     /**
@@ -82,6 +122,18 @@ public class EmitUtils {
      * @return The amount that actually got sent
      */
     public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(TARGET availableTargets, FloatingLong amountToSplit) {
-        return sendToAcceptors(availableTargets, new FloatingLongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), amountToSplit);
+        return sendToAcceptors(availableTargets, amountToSplit, DistributionMode.ITERATIVE);
+    }
+
+    /**
+     * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
+     * @param amountToSplit    The amount of energy to attempt to send
+     * @param mode             Strategy to use for splitting between the targets.
+     *
+     * @return The amount that actually got sent
+     */
+    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(TARGET availableTargets, FloatingLong amountToSplit,
+          DistributionMode mode) {
+        return sendToAcceptors(availableTargets, new FloatingLongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), amountToSplit, mode);
     }
 }
\ No newline at end of file
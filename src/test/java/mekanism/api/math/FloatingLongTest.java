@@ -155,4 +155,42 @@ class FloatingLongTest {
     void testConvertingStringToDecimal() {
         Assertions.assertEquals("0.00", FloatingLong.create(0, (short) 1).toString(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test that in place multiplication of a mutable value matches creating a new value")
+    void testInPlaceMultiply() {
+        FloatingLong a = FloatingLong.create(5, (short) 6_789);
+        FloatingLong b = FloatingLong.create(9, (short) 8_765);
+        FloatingLong expected = a.multiply(b);
+        FloatingLong result = a.timesEqual(b);
+        Assertions.assertSame(a, result);
+        Assertions.assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("Test in place multiplication of a mutable value by itself")
+    void testInPlaceSelfMultiply() {
+        FloatingLong a = FloatingLong.create(27, (short) 1_000);
+        Assertions.assertEquals(FloatingLong.createConst(734.41), a.timesEqual(a));
+    }
+
+    @Test
+    @DisplayName("Test in place multiplication of a mutable value by a long")
+    void testInPlaceMultiplyLong() {
+        FloatingLong a = FloatingLong.create(12, (short) 3_456);
+        Assertions.assertEquals(FloatingLong.createConst(86.4192), a.timesEqual(7));
+    }
+
+    @Test
+    @DisplayName("Test setting a mutable value in place and that constants are not modified")
+    void testSet() {
+        FloatingLong accumulator = FloatingLong.create(0);
+        FloatingLong value = FloatingLong.create(42, (short) 4_242);
+        Assertions.assertSame(accumulator, accumulator.set(value));
+        Assertions.assertEquals(value, accumulator);
+        FloatingLong result = FloatingLong.ZERO.set(value);
+        Assertions.assertNotSame(FloatingLong.ZERO, result);
+        Assertions.assertTrue(FloatingLong.ZERO.isZero());
+        Assertions.assertEquals(value, result);
+    }
+}
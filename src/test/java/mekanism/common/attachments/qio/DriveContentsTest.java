@@ -0,0 +1,59 @@
+package mekanism.common.attachments.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongSortedMap;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test incrementally updating QIO drive contents")
+class DriveContentsTest {
+
+    private static final UUID FIRST = new UUID(0, 1);
+    private static final UUID SECOND = new UUID(0, 2);
+    private static final UUID THIRD = new UUID(0, 3);
+
+    private static DriveContents contents(UUID... types) {
+        Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>();
+        for (int i = 0; i < types.length; i++) {
+            namedItemMap.put(types[i], i + 1);
+        }
+        return new DriveContents(namedItemMap);
+    }
+
+    @Test
+    @DisplayName("Test no changes returns the same contents")
+    void testNoChanges() {
+        DriveContents contents = contents(FIRST, SECOND);
+        Assertions.assertSame(contents, contents.withChanges(new Object2LongOpenHashMap<>()));
+    }
+
+    @Test
+    @DisplayName("Test changing, adding and removing types")
+    void testChanges() {
+        DriveContents contents = contents(FIRST, SECOND);
+        Object2LongMap<UUID> changes = new Object2LongOpenHashMap<>();
+        changes.put(FIRST, 0);
+        changes.put(SECOND, 10);
+        changes.put(THIRD, 5);
+        DriveContents updated = contents.withChanges(changes);
+        Assertions.assertEquals(List.of(SECOND, THIRD), List.copyOf(updated.namedItemMap().keySet()));
+        Assertions.assertEquals(10, updated.namedItemMap().getLong(SECOND));
+        Assertions.assertEquals(5, updated.namedItemMap().getLong(THIRD));
+        //The original contents should not have been modified
+        Assertions.assertEquals(2, contents.namedItemMap().size());
+        Assertions.assertEquals(1, contents.namedItemMap().getLong(FIRST));
+    }
+
+    @Test
+    @DisplayName("Test removing all types")
+    void testRemoveAll() {
+        Object2LongMap<UUID> changes = new Object2LongOpenHashMap<>();
+        changes.put(FIRST, 0);
+        Assertions.assertSame(DriveContents.EMPTY, contents(FIRST).withChanges(changes));
+    }
+}
@@ -0,0 +1,136 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import mekanism.common.capabilities.energy.IDemandTrackingEnergyHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test caching which energy acceptors are idle")
+class EnergyAcceptorDemandCacheTest {
+
+    private static final FloatingLong TO_SEND = FloatingLong.createConst(100);
+
+    @Test
+    @DisplayName("Test full acceptors are skipped until their contents change")
+    void testFullAcceptorSkipped() {
+        EnergyAcceptorDemandCache cache = new EnergyAcceptorDemandCache(() -> 20);
+        TrackedHandler handler = new TrackedHandler(1_000);
+        handler.container.setEnergy(FloatingLong.createConst(1_000));
+        cache.tick();
+        Assertions.assertFalse(cache.canAccept(handler, TO_SEND));
+        Assertions.assertEquals(1, handler.simulations);
+        for (int i = 0; i < 5; i++) {
+            cache.tick();
+            Assertions.assertFalse(cache.canAccept(handler, TO_SEND));
+        }
+        Assertions.assertEquals(1, handler.simulations);
+        Assertions.assertEquals(5, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+        //Use some of the energy, which should cause us to check the acceptor again
+        handler.container.extract(FloatingLong.createConst(10), Action.EXECUTE, AutomationType.INTERNAL);
+        cache.tick();
+        Assertions.assertTrue(cache.canAccept(handler, TO_SEND));
+        Assertions.assertEquals(2, handler.simulations);
+    }
+
+    @Test
+    @DisplayName("Test acceptors that can accept energy are always checked")
+    void testAcceptingAcceptorChecked() {
+        EnergyAcceptorDemandCache cache = new EnergyAcceptorDemandCache(() -> 20);
+        TrackedHandler handler = new TrackedHandler(1_000);
+        for (int i = 0; i < 5; i++) {
+            cache.tick();
+            Assertions.assertTrue(cache.canAccept(handler, TO_SEND));
+        }
+        Assertions.assertEquals(5, handler.simulations);
+        Assertions.assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Test snapshots expire")
+    void testSnapshotExpires() {
+        EnergyAcceptorDemandCache cache = new EnergyAcceptorDemandCache(() -> 3);
+        TrackedHandler handler = new TrackedHandler(0);
+        for (int i = 0; i < 6; i++) {
+            cache.tick();
+            Assertions.assertFalse(cache.canAccept(handler, TO_SEND));
+        }
+        //Checked on the first tick and then again once the snapshot expired
+        Assertions.assertEquals(2, handler.simulations);
+    }
+
+    @Test
+    @DisplayName("Test disabling the cache")
+    void testDisabled() {
+        EnergyAcceptorDemandCache cache = new EnergyAcceptorDemandCache(() -> 0);
+        TrackedHandler handler = new TrackedHandler(0);
+        for (int i = 0; i < 5; i++) {
+            cache.tick();
+            Assertions.assertFalse(cache.canAccept(handler, TO_SEND));
+        }
+        Assertions.assertEquals(5, handler.simulations);
+        Assertions.assertEquals(0, cache.getHits());
+    }
+
+    private static class TrackedHandler implements IDemandTrackingEnergyHandler {
+
+        private final BasicEnergyContainer container;
+        private int simulations;
+
+        private TrackedHandler(long capacity) {
+            container = BasicEnergyContainer.create(FloatingLong.createConst(capacity), null);
+        }
+
+        @Override
+        public long getDemandVersion() {
+            return container.getChangeCount();
+        }
+
+        @Override
+        public int getEnergyContainerCount() {
+            return 1;
+        }
+
+        @Override
+        public FloatingLong getEnergy(int container) {
+            return this.container.getEnergy();
+        }
+
+        @Override
+        public void setEnergy(int container, FloatingLong energy) {
+            this.container.setEnergy(energy);
+        }
+
+        @Override
+        public FloatingLong getMaxEnergy(int container) {
+            return this.container.getMaxEnergy();
+        }
+
+        @Override
+        public FloatingLong getNeededEnergy(int container) {
+            return this.container.getNeeded();
+        }
+
+        @Override
+        public FloatingLong insertEnergy(int container, FloatingLong amount, Action action) {
+            return this.container.insert(amount, action, AutomationType.EXTERNAL);
+        }
+
+        @Override
+        public FloatingLong insertEnergy(FloatingLong amount, Action action) {
+            if (action.simulate()) {
+                simulations++;
+            }
+            return insertEnergy(0, amount, action);
+        }
+
+        @Override
+        public FloatingLong extractEnergy(int container, FloatingLong amount, Action action) {
+            return this.container.extract(amount, action, AutomationType.EXTERNAL);
+        }
+    }
+}
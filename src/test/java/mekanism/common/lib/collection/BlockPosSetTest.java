@@ -0,0 +1,47 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test BlockPosSet")
+class BlockPosSetTest {
+
+    @Test
+    @DisplayName("Test mutable positions are looked up by value")
+    void testMutableLookup() {
+        BlockPosSet set = new BlockPosSet();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos(1, -64, 3);
+        Assertions.assertTrue(set.add(mutable));
+        mutable.set(4, 5, 6);
+        Assertions.assertFalse(set.contains(mutable));
+        Assertions.assertTrue(set.contains(new BlockPos(1, -64, 3)));
+        Assertions.assertTrue(set.contains(new BlockPos(1, -64, 3).asLong()));
+        Assertions.assertFalse(set.add(new BlockPos(1, -64, 3)));
+        Assertions.assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Test equality with other sets of positions")
+    void testEquality() {
+        BlockPosSet set = new BlockPosSet();
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        for (int i = -5; i <= 5; i++) {
+            BlockPos pos = new BlockPos(i, i * 7, -i * 3);
+            set.add(pos);
+            expected.add(pos);
+        }
+        Assertions.assertEquals(expected, set);
+        Assertions.assertEquals(set, expected);
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+        Assertions.assertEquals(expected, new ObjectOpenHashSet<>(set.iterator()));
+        BlockPosSet copy = new BlockPosSet();
+        copy.addAll(expected);
+        Assertions.assertEquals(set, copy);
+        copy.remove(BlockPos.ZERO);
+        Assertions.assertNotEquals(set, copy);
+    }
+}
@@ -0,0 +1,54 @@
+package mekanism.common.lib.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LRU")
+class LRUTest {
+
+    @Test
+    @DisplayName("Test polling the least recently used element")
+    void testPollLast() {
+        LRU<Integer> lru = new LRU<>();
+        lru.add(1);
+        lru.add(2);
+        lru.add(3);
+        lru.moveUp(1);
+        Assertions.assertEquals(2, lru.pollLast());
+        Assertions.assertEquals(3, lru.pollLast());
+        Assertions.assertEquals(1, lru.pollLast());
+        Assertions.assertNull(lru.pollLast());
+        Assertions.assertTrue(lru.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test iteration order")
+    void testIterationOrder() {
+        LRU<Integer> lru = new LRU<>();
+        lru.add(1);
+        lru.add(2);
+        lru.add(3);
+        lru.moveUp(2);
+        Assertions.assertEquals(List.of(2, 3, 1), new ArrayList<>(lru));
+        List<Integer> reversed = new ArrayList<>();
+        lru.reverseIterate(reversed::add);
+        Assertions.assertEquals(List.of(1, 3, 2), reversed);
+    }
+
+    @Test
+    @DisplayName("Test clearing")
+    void testClear() {
+        LRU<Integer> lru = new LRU<>();
+        lru.add(1);
+        lru.add(2);
+        lru.clear();
+        Assertions.assertEquals(0, lru.size());
+        Assertions.assertFalse(lru.contains(1));
+        Assertions.assertNull(lru.peek());
+        lru.add(3);
+        Assertions.assertEquals(3, lru.head());
+    }
+}
@@ -54,4 +54,12 @@ class DistributionPropertyTest implements WithQuickTheories {
               EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend) <= toSend
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test sorted distribution")
+    void testSortedDistribution() {
+        distributionTheory(0, 100, 0, 100, 0, 100).check((availableAcceptors, toSend) ->
+              EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend, DistributionMode.SORTED) <= toSend
+        );
+    }
+}
@@ -30,12 +30,16 @@ class DistributionTest {
         }
     }
 
+    protected int send(IntegerTarget availableAcceptors, int toSend) {
+        return EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend);
+    }
+
     @Test
     @DisplayName("Test sending to targets where the amounts divide evenly")
     void testEvenDistribution() {
         int toSend = 10;
         IntegerTarget availableAcceptors = getTargets(toSend, 0, 0);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         for (IntegerHandler handler : availableAcceptors.handlers) {
             Assertions.assertEquals(1, handler.getAccepted());
         }
@@ -46,7 +50,7 @@ class DistributionTest {
     void testEvenDistribution2() {
         int toSend = 40;
         IntegerTarget availableAcceptors = getTargets(toSend / 4, 0, 0);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         for (IntegerHandler handler : availableAcceptors.handlers) {
             Assertions.assertEquals(4, handler.getAccepted());
         }
@@ -57,7 +61,7 @@ class DistributionTest {
     void testRemainderDistribution() {
         int toSend = 10;
         IntegerTarget availableAcceptors = getTargets(7, 0, 0);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         int singleAccepted = 0, twoAccepted = 0;
         for (IntegerHandler handler : availableAcceptors.handlers) {
             Assertions.assertTrue(handler.getAccepted() == 1 || handler.getAccepted() == 2);
@@ -76,7 +80,7 @@ class DistributionTest {
     void testAllRemainder() {
         int toSend = 3;
         IntegerTarget availableAcceptors = getTargets(7, 0, 0);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         int destinationsAccepted = 0;
         int destinationsNotAccepted = 0;
         for (IntegerHandler availableAcceptor : availableAcceptors.handlers) {
@@ -101,7 +105,7 @@ class DistributionTest {
         IntegerTarget availableAcceptors = new IntegerTarget();
         availableAcceptors.addHandler(new SpecificAmountIntegerHandler(1));
         addTargets(availableAcceptors, () -> new SpecificAmountIntegerHandler(3), 2);
-        int sent = EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend);
+        int sent = send(availableAcceptors, toSend);
         if (sent > toSend) {
             Assertions.fail(String.format(Locale.ROOT, "expected: <%s> to be greater or equal to: <%s>", toSend, sent));
         }
@@ -116,7 +120,7 @@ class DistributionTest {
         IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
         availableAcceptors.addHandler(specificHandler);
         availableAcceptors.addHandler(lyingHandler);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
@@ -130,7 +134,7 @@ class DistributionTest {
         IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
         availableAcceptors.addHandler(lyingHandler);
         availableAcceptors.addHandler(specificHandler);
-        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
@@ -0,0 +1,46 @@
+package mekanism.common.lib.distribution;
+
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.util.EmitUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test Distribution via EmitUtils using sorted distribution")
+class SortedDistributionTest extends DistributionTest {
+
+    @Override
+    protected int send(IntegerTarget availableAcceptors, int toSend) {
+        return EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend, DistributionMode.SORTED);
+    }
+
+    @Test
+    @DisplayName("Test that targets needing less than an even split don't reduce the split for the other targets")
+    void testLowDemandDistribution() {
+        int toSend = 50;
+        IntegerTarget availableAcceptors = new IntegerTarget();
+        IntegerHandler needsOne = new SpecificAmountIntegerHandler(1);
+        IntegerHandler needsTwo = new SpecificAmountIntegerHandler(2);
+        IntegerHandler needsNone = new SpecificAmountIntegerHandler(0);
+        availableAcceptors.addHandler(new SpecificAmountIntegerHandler(100));
+        availableAcceptors.addHandler(needsTwo);
+        availableAcceptors.addHandler(needsNone);
+        availableAcceptors.addHandler(new SpecificAmountIntegerHandler(100));
+        availableAcceptors.addHandler(needsOne);
+        Assertions.assertEquals(toSend, send(availableAcceptors, toSend));
+        Assertions.assertEquals(1, needsOne.getAccepted());
+        Assertions.assertEquals(2, needsTwo.getAccepted());
+        Assertions.assertEquals(0, needsNone.getAccepted());
+        //The rest should be split as evenly as possible between the handlers that want more
+        int largeAccepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            if (handler != needsOne && handler != needsTwo && handler != needsNone) {
+                Assertions.assertTrue(handler.getAccepted() == 23 || handler.getAccepted() == 24);
+                largeAccepted += handler.getAccepted();
+            }
+        }
+        Assertions.assertEquals(47, largeAccepted);
+    }
+}
@@ -0,0 +1,125 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test finding pieces that get split off from a network")
+class NetworkSplitFinderTest {
+
+    private static final int SIZE = 512;
+
+    private static long key(int x, int y) {
+        return (long) x * SIZE + y;
+    }
+
+    /**
+     * Simple grid of nodes that keeps track of how many nodes were expanded while searching.
+     */
+    private static class Grid implements BiConsumer<Long, Consumer<Long>> {
+
+        private final LongSet nodes = new LongOpenHashSet();
+        private int expanded;
+
+        private Grid fill(int minX, int minY, int maxX, int maxY) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    nodes.add(key(x, y));
+                }
+            }
+            return this;
+        }
+
+        private List<List<Long>> remove(int x, int y) {
+            Assertions.assertTrue(nodes.remove(key(x, y)));
+            List<Long> seeds = new ArrayList<>();
+            forEachNeighbor(x, y, seeds::add);
+            expanded = 0;
+            return NetworkSplitFinder.findSeparated(seeds, this, Long::longValue);
+        }
+
+        private void forEachNeighbor(int x, int y, Consumer<Long> consumer) {
+            addIfPresent(x - 1, y, consumer);
+            addIfPresent(x + 1, y, consumer);
+            addIfPresent(x, y - 1, consumer);
+            addIfPresent(x, y + 1, consumer);
+        }
+
+        private void addIfPresent(int x, int y, Consumer<Long> consumer) {
+            if (x >= 0 && y >= 0 && x < SIZE && y < SIZE && nodes.contains(key(x, y))) {
+                consumer.accept(key(x, y));
+            }
+        }
+
+        @Override
+        public void accept(Long node, Consumer<Long> consumer) {
+            expanded++;
+            forEachNeighbor((int) (node / SIZE), (int) (node % SIZE), consumer);
+        }
+    }
+
+    @Test
+    @DisplayName("Test removing a node from the middle of a large grid")
+    void testRemoveFromGrid() {
+        Grid grid = new Grid().fill(0, 0, SIZE - 1, SIZE - 1);
+        Assertions.assertTrue(grid.remove(SIZE / 2, SIZE / 2).isEmpty());
+        //The searches should find each other almost immediately rather than exploring the entire grid
+        Assertions.assertTrue(grid.expanded < 64, "Expanded " + grid.expanded + " nodes");
+    }
+
+    @Test
+    @DisplayName("Test removing a node with a single neighbor")
+    void testRemoveLeaf() {
+        Grid grid = new Grid().fill(0, 0, SIZE - 1, SIZE - 2);
+        grid.nodes.add(key(0, SIZE - 1));
+        Assertions.assertTrue(grid.remove(0, SIZE - 1).isEmpty());
+        Assertions.assertEquals(0, grid.expanded);
+    }
+
+    @Test
+    @DisplayName("Test removing a node that splits a line")
+    void testSplitLine() {
+        Grid grid = new Grid().fill(0, 0, 0, 99);
+        List<List<Long>> separated = grid.remove(0, 30);
+        Assertions.assertEquals(1, separated.size());
+        //The shorter side will be fully explored first
+        Assertions.assertEquals(30, separated.get(0).size());
+        Assertions.assertTrue(separated.get(0).contains(key(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Test removing a bridge between a small and a large grid")
+    void testSplitBridge() {
+        Grid grid = new Grid().fill(0, 0, SIZE - 1, SIZE / 2 - 1).fill(0, SIZE / 2 + 1, 3, SIZE / 2 + 4);
+        grid.nodes.add(key(0, SIZE / 2));
+        List<List<Long>> separated = grid.remove(0, SIZE / 2);
+        Assertions.assertEquals(1, separated.size());
+        Assertions.assertEquals(16, separated.get(0).size());
+        //We only have to explore the small piece and a similarly sized part of the large grid
+        Assertions.assertTrue(grid.expanded < 64, "Expanded " + grid.expanded + " nodes");
+    }
+
+    @Test
+    @DisplayName("Test removing a node that splits off multiple pieces")
+    void testSplitMultiple() {
+        Grid grid = new Grid().fill(10, 0, 10, 20).fill(0, 10, 20, 10);
+        List<List<Long>> separated = grid.remove(10, 10);
+        Assertions.assertEquals(3, separated.size());
+        for (List<Long> piece : separated) {
+            Assertions.assertEquals(10, piece.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test removing a node where the neighbors are only connected by a long path")
+    void testRingStaysConnected() {
+        Grid grid = new Grid().fill(0, 0, 0, 99).fill(1, 99, 9, 99).fill(9, 0, 9, 98).fill(1, 0, 8, 0);
+        Assertions.assertTrue(grid.remove(0, 50).isEmpty());
+    }
+}